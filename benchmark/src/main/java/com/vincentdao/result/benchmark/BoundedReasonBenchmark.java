@@ -0,0 +1,75 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.ReasonCapacity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures adding a storm of failures to a {@link Result}, unbounded and bounded to 16 reasons with each overflow
+ * policy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoundedReasonBenchmark {
+
+    @Param({"unbounded", "keepFirst", "keepLast", "sample"})
+    private String capacity;
+
+    @Param({"16", "1024"})
+    private int reasonCount;
+
+    private ReasonCapacity reasonCapacity;
+
+    private final Failure failure = new DefaultFailure("Failure message.");
+
+    @Setup
+    public void setUp() {
+        switch (capacity) {
+            case "keepFirst":
+                reasonCapacity = ReasonCapacity.keepFirst(16);
+                break;
+            case "keepLast":
+                reasonCapacity = ReasonCapacity.keepLast(16);
+                break;
+            case "sample":
+                reasonCapacity = ReasonCapacity.sample(16);
+                break;
+            default:
+                reasonCapacity = ReasonCapacity.unbounded();
+                break;
+        }
+    }
+
+    @Benchmark
+    public Result<Integer> failureStorm() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withReasonCapacity(reasonCapacity);
+        for (int i = 0; i < reasonCount; i++) {
+            result.withFailure(failure);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int failureStormThenCount() {
+        return failureStorm().failureCount();
+    }
+}
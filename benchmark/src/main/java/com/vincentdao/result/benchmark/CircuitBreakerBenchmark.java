@@ -0,0 +1,59 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.circuit.CircuitBreaker;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CircuitBreaker} calls: the overhead of recording outcomes while closed, and the rejection of calls
+ * while open, which should not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CircuitBreakerBenchmark {
+
+    private static final Result<Integer> SUCCESSFUL = Result.<Integer>successful().withValue(1);
+
+    private CircuitBreaker closed;
+    private CircuitBreaker open;
+
+    @Setup
+    public void setUp() {
+        closed = CircuitBreaker.builder()
+                .build();
+        open = CircuitBreaker.builder()
+                .withMinimumCalls(1)
+                .withOpenDuration(Duration.ofDays(1))
+                .build();
+        open.call(() -> Result.<Integer>failed().withFailureMessage("Unavailable."));
+    }
+
+    private static Result<Integer> succeed() {
+        return SUCCESSFUL;
+    }
+
+    @Benchmark
+    public Result<Integer> closedCall() {
+        return closed.call(CircuitBreakerBenchmark::succeed);
+    }
+
+    @Benchmark
+    public Result<Integer> openRejection() {
+        return open.call(CircuitBreakerBenchmark::succeed);
+    }
+}
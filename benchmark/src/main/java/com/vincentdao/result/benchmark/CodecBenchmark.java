@@ -0,0 +1,99 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.codec.ResultCodec;
+import com.vincentdao.result.codec.ValueCodecs;
+import com.vincentdao.result.json.ResultJsonWriter;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding failed results through {@link ResultCodec}, and writing them as JSON through
+ * {@link ResultJsonWriter}, each failure having one cause.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int reasonCount;
+
+    private final ResultCodec<Integer> codec = ResultCodec.of(ValueCodecs.integers());
+
+    private Result<Integer> result;
+
+    private ByteBuffer heapBuffer;
+
+    private ByteBuffer directBuffer;
+
+    private ByteBuffer encoded;
+
+    private final ResultJsonWriter jsonWriter = ResultJsonWriter.create();
+
+    private final StringBuilder json = new StringBuilder();
+
+    @Setup
+    public void setUp() {
+        result = Result.failed();
+        for (int i = 0; i < reasonCount; i++) {
+            final Failure failure = new DefaultFailure("Failure message " + i);
+            failure.causedBy(new DefaultFailure("Cause message " + i));
+            result.withFailure(failure);
+        }
+        final int size = codec.encodedSize(result);
+        heapBuffer = ByteBuffer.allocate(size);
+        directBuffer = ByteBuffer.allocateDirect(size);
+        encoded = ByteBuffer.allocate(size);
+        codec.encode(result, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public int encodedSize() {
+        return codec.encodedSize(result);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeHeap() {
+        heapBuffer.clear();
+        codec.encode(result, heapBuffer);
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDirect() {
+        directBuffer.clear();
+        codec.encode(result, directBuffer);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public Result<Integer> decodeHeap() {
+        return codec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public StringBuilder writeJson() throws IOException {
+        json.setLength(0);
+        jsonWriter.write(result, json);
+        return json;
+    }
+}
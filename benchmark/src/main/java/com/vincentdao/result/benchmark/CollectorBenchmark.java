@@ -0,0 +1,56 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.ResultPartition;
+import com.vincentdao.result.Results;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures aggregating streams of {@link Result}s with the collectors of {@link Results}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectorBenchmark {
+
+    @Param({"16", "1024"})
+    private int resultCount;
+
+    private List<Result<Integer>> results;
+
+    @Setup
+    public void setUp() {
+        results = new ArrayList<>(resultCount);
+        for (int i = 0; i < resultCount; i++) {
+            results.add(Result.<Integer>successful()
+                    .withValue(i)
+                    .withSuccessMessage("Success message " + i));
+        }
+    }
+
+    @Benchmark
+    public Result<List<Integer>> toListResult() {
+        return results.stream().collect(Results.toListResult());
+    }
+
+    @Benchmark
+    public ResultPartition<Integer> partitioning() {
+        return results.stream().collect(Results.partitioning());
+    }
+}
@@ -0,0 +1,81 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureTree;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building deep {@link Failure} cause chains through {@link Failure#causedBy(Failure)}, and traversing them
+ * through {@link FailureTree}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailureTreeBenchmark {
+
+    @Param({"16", "256"})
+    private int depth;
+
+    private final String message = "Failure message.";
+
+    private Failure chain;
+
+    private Failure fanOut;
+
+    @Setup
+    public void setUp() {
+        chain = causedByChain();
+        fanOut = causedByFanOut();
+    }
+
+    @Benchmark
+    public Failure causedByChain() {
+        final Failure root = new DefaultFailure(message);
+        Failure current = root;
+        for (int i = 0; i < depth; i++) {
+            final Failure cause = new DefaultFailure(message);
+            current.causedBy(cause);
+            current = cause;
+        }
+        return root;
+    }
+
+    @Benchmark
+    public Failure causedByFanOut() {
+        final Failure root = new DefaultFailure(message);
+        for (int i = 0; i < depth; i++) {
+            root.causedBy(new DefaultFailure(message));
+        }
+        return root;
+    }
+
+    @Benchmark
+    public long depthFirstChain() {
+        return FailureTree.depthFirst(chain).count();
+    }
+
+    @Benchmark
+    public long breadthFirstFanOut() {
+        return FailureTree.breadthFirst(fanOut).count();
+    }
+
+    @Benchmark
+    public Failure rootCauseChain() {
+        return FailureTree.rootCause(chain);
+    }
+}
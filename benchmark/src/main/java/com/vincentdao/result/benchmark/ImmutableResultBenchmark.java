@@ -0,0 +1,65 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.ImmutableResult;
+import com.vincentdao.result.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures deriving a result with one more failure from a result holding {@code reasonCount} reasons, leaving the
+ * original unchanged: through {@link ImmutableResult}, and by defensively copying a mutable {@link Result}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ImmutableResultBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int reasonCount;
+
+    private ImmutableResult<Integer> immutable;
+    private Result<Integer> mutable;
+
+    private final String message = "Failure message.";
+
+    @Setup
+    public void setUp() {
+        immutable = ImmutableResult.successful(1);
+        mutable = Result.<Integer>successful().withValue(1);
+        for (int i = 0; i < reasonCount; i++) {
+            immutable = immutable.withSuccessMessage("Success message " + i);
+            mutable.withSuccessMessage("Success message " + i);
+        }
+    }
+
+    @Benchmark
+    public ImmutableResult<Integer> immutableWithFailure() {
+        return immutable.withFailureMessage(message);
+    }
+
+    @Benchmark
+    public Result<Integer> copiedMutableWithFailure() {
+        return Result.<Integer>successful()
+                .withValue(mutable.value())
+                .withReasons(mutable.reasons())
+                .withFailureMessage(message);
+    }
+
+    @Benchmark
+    public int immutableFailureCount() {
+        return immutable.withFailureMessage(message).failureCount();
+    }
+}
@@ -0,0 +1,74 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.ResultListener;
+import com.vincentdao.result.ResultListeners;
+import com.vincentdao.result.metrics.ResultMetrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link ResultListener}s on result creation: none registered, a listener doing nothing, and
+ * {@link ResultMetrics}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerBenchmark {
+
+    @Param({"none", "noop", "metrics"})
+    private String listener;
+
+    private ResultListener registered;
+
+    private final Integer value = 1;
+
+    private final String message = "Failure message.";
+
+    @Setup
+    public void setUp() {
+        switch (listener) {
+            case "noop":
+                registered = new ResultListener() {
+                };
+                break;
+            case "metrics":
+                registered = new ResultMetrics();
+                break;
+            default:
+                return;
+        }
+        ResultListeners.register(registered);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (registered != null) {
+            ResultListeners.unregister(registered);
+        }
+    }
+
+    @Benchmark
+    public Result<Integer> successfulWithValue() {
+        return Result.<Integer>successful().withValue(value);
+    }
+
+    @Benchmark
+    public Result<Integer> successfulThenFailed() {
+        return Result.<Integer>successful().withValue(value).withFailureMessage(message);
+    }
+}
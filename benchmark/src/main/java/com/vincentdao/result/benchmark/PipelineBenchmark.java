@@ -0,0 +1,60 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures chains of {@link Result#map} and {@link Result#flatMap} on successful and failed results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    private Result<Integer> successful;
+    private Result<Integer> failed;
+
+    @Setup
+    public void setUp() {
+        successful = Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success message.");
+        failed = Result.<Integer>failed()
+                .withFailureMessage("Failure message.");
+    }
+
+    @Benchmark
+    public Result<String> mapChainSuccessful() {
+        return successful.map(value -> value + 1)
+                .map(value -> value * 2)
+                .map(value -> value - 1)
+                .map(String::valueOf);
+    }
+
+    @Benchmark
+    public Result<String> mapChainFailed() {
+        return failed.map(value -> value + 1)
+                .map(value -> value * 2)
+                .map(value -> value - 1)
+                .map(String::valueOf);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapChainSuccessful() {
+        return successful.flatMap(value -> Result.<Integer>successful().withValue(value + 1))
+                .flatMap(value -> Result.<Integer>successful().withValue(value * 2));
+    }
+}
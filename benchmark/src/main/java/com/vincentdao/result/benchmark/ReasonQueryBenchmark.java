@@ -0,0 +1,122 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.Success;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the reason retrieval operations of {@link Result} at different reason counts.
+ * <p>
+ * Reasons are added in a fixed rotation of {@link DefaultFailure}, {@link DefaultSuccess} and
+ * {@link ExceptionalFailure}, so roughly two thirds of them are failures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReasonQueryBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int reasonCount;
+
+    private Result<Integer> result;
+
+    private final FailureCode failureCode = FailureCode.register(1, "Failure code message.");
+
+    @Setup
+    public void setUp() {
+        result = Result.<Integer>successful().withValue(1);
+        for (int i = 0; i < reasonCount; i++) {
+            switch (i % 3) {
+                case 0:
+                    result.withFailure(new DefaultFailure("Failure message " + i));
+                    break;
+                case 1:
+                    result.withSuccess(new DefaultSuccess("Success message " + i));
+                    break;
+                default:
+                    result.withFailure(new ExceptionalFailure(new Exception("Exception message " + i)));
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public Collection<Reason> reasons() {
+        return result.reasons();
+    }
+
+    @Benchmark
+    public Collection<Failure> failures() {
+        return result.failures();
+    }
+
+    @Benchmark
+    public Collection<Success> successes() {
+        return result.successes();
+    }
+
+    @Benchmark
+    public int failureCount() {
+        return result.failureCount();
+    }
+
+    @Benchmark
+    public boolean hasFailure() {
+        return result.hasFailure(ExceptionalFailure.class);
+    }
+
+    @Benchmark
+    public boolean hasFailureCode() {
+        return result.hasFailureCode(failureCode);
+    }
+
+    @Benchmark
+    public Optional<Failure> firstFailure() {
+        return result.firstFailure();
+    }
+
+    @Benchmark
+    public Collection<Reason> reasonsFiltered() {
+        return result.reasonsFiltered(reason -> reason instanceof ExceptionalFailure);
+    }
+
+    @Benchmark
+    public int reasonsView() {
+        return result.reasonsView().size();
+    }
+
+    @Benchmark
+    public void forEachFailure(Blackhole blackhole) {
+        result.forEachFailure(blackhole::consume);
+    }
+
+    @Benchmark
+    public long reasonStreamCount() {
+        return result.reasonStream()
+                .filter(reason -> reason instanceof ExceptionalFailure)
+                .count();
+    }
+}
@@ -0,0 +1,73 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.ImmutableResult;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.cache.ResultCache;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ResultCache} lookups: hits on cached successful and failed results, and lookups of keys evicted by
+ * a full cache, which load again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultCacheBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    private ResultCache<Integer, Integer> cache;
+    private ResultCache<Integer, Integer> smallCache;
+    private final Integer[] keys = new Integer[KEY_COUNT];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cache = ResultCache.<Integer, Integer>builder()
+                .withSuccessTtl(Duration.ofMinutes(1))
+                .withFailureTtl(Duration.ofMinutes(1))
+                .build(ResultCacheBenchmark::load);
+        smallCache = ResultCache.<Integer, Integer>builder()
+                .withMaximumSize(KEY_COUNT / 4)
+                .build(ResultCacheBenchmark::load);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = i;
+            cache.get(keys[i]);
+        }
+    }
+
+    private static Result<Integer> load(Integer key) {
+        return key % 2 == 0
+                ? Result.<Integer>successful().withValue(key)
+                : Result.<Integer>failed().withFailureMessage("Not found.");
+    }
+
+    private Integer nextKey() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        return keys[index];
+    }
+
+    @Benchmark
+    public ImmutableResult<Integer> hit() {
+        return cache.get(nextKey());
+    }
+
+    @Benchmark
+    public ImmutableResult<Integer> loadWithEviction() {
+        return smallCache.get(nextKey());
+    }
+}
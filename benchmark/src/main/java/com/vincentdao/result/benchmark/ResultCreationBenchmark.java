@@ -0,0 +1,119 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.IntResult;
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.ExceptionClassifier;
+import com.vincentdao.result.trace.FailureCode;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of creating {@link Result} instances through the public factory methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultCreationBenchmark {
+
+    private final Integer value = 42;
+    private int primitiveValue = 42;
+    private final String message = "Failure message.";
+    private final Exception exception = new Exception(message);
+    private final FailureCode failureCode = FailureCode.register(1, message);
+    private final Callable<Integer> callable = () -> value;
+    private final Callable<Integer> throwingCallable = () -> {
+        throw exception;
+    };
+    private final ExceptionClassifier classifier = ExceptionClassifier.defaults()
+            .map(RuntimeException.class, exception -> new DefaultFailure(message))
+            .map(Exception.class, failureCode);
+
+    @Benchmark
+    public Result<Integer> successfulWithValue() {
+        return Result.<Integer>successful().withValue(value);
+    }
+
+    @Benchmark
+    public Result<Integer> successfulWithBoxedValue() {
+        return Result.<Integer>successful().withValue(primitiveValue++);
+    }
+
+    @Benchmark
+    public IntResult successfulIntResult() {
+        return IntResult.successful(primitiveValue++);
+    }
+
+    @Benchmark
+    public Result<NoValue> successfulWithNoValue() {
+        return Result.successful().withNoValue();
+    }
+
+    @Benchmark
+    public Result<NoValue> successfulWithSharedNoValue() {
+        return Result.successful().withSharedNoValue();
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithFailureMessage() {
+        return Result.<Integer>failed().withFailureMessage(message);
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithFormattedFailureMessage() {
+        return Result.<Integer>failed().withFailureMessage(String.format("Failure message %d.", primitiveValue++));
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithFailureMessageTemplate() {
+        return Result.<Integer>failed().withFailureMessage("Failure message %d.", primitiveValue++);
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithFailureCode() {
+        return Result.<Integer>failed().withFailureCode(failureCode);
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithPreparedExceptionalFailure() {
+        return Result.<Integer>failed().withExceptionalFailure(exception);
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithNewExceptionalFailure() {
+        return Result.<Integer>failed().withExceptionalFailure(new Exception(message));
+    }
+
+    @Benchmark
+    public Result<Integer> failedWithStacklessExceptionalFailure() {
+        return Result.<Integer>failed().withExceptionalFailure(Exception.class, message);
+    }
+
+    @Benchmark
+    public Result<Integer> ofCallable() {
+        return Result.of(callable);
+    }
+
+    @Benchmark
+    public Result<Integer> ofThrowingCallable() {
+        return Result.of(throwingCallable);
+    }
+
+    @Benchmark
+    public Result<Integer> ofThrowingCallableClassified() {
+        return Result.of(throwingCallable, classifier);
+    }
+}
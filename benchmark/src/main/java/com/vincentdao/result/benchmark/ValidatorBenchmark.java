@@ -0,0 +1,94 @@
+package com.vincentdao.result.benchmark;
+
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.validation.Validator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validating a value against {@code ruleCount} rules with a {@link Validator}, against the per-rule
+ * {@link Result}s merged through {@link Result#withReasons(java.util.Collection)} it replaces.
+ * <p>
+ * The valid value passes every rule, the invalid one fails every rule.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatorBenchmark {
+
+    @Param({"4", "16"})
+    private int ruleCount;
+
+    private Validator<Integer> validator;
+    private Validator<Integer> failFastValidator;
+    private Function<Integer, Result<NoValue>>[] ruleResults;
+
+    private final Integer validValue = 1;
+    private final Integer invalidValue = -1;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        validator = Validator.create();
+        ruleResults = new Function[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            final String message = "Rule " + i + " failed.";
+            validator = validator.withRule(value -> value > 0, message);
+            ruleResults[i] = value -> value > 0
+                    ? Result.successful().withNoValue()
+                    : Result.<NoValue>failed().withFailureMessage(message);
+        }
+        failFastValidator = validator.failFast();
+    }
+
+    @Benchmark
+    public Result<Integer> validateValid() {
+        return validator.validate(validValue);
+    }
+
+    @Benchmark
+    public Result<Integer> validateInvalid() {
+        return validator.validate(invalidValue);
+    }
+
+    @Benchmark
+    public Result<Integer> validateInvalidFailFast() {
+        return failFastValidator.validate(invalidValue);
+    }
+
+    @Benchmark
+    public Result<Integer> mergeRuleResultsValid() {
+        return mergeRuleResults(validValue);
+    }
+
+    @Benchmark
+    public Result<Integer> mergeRuleResultsInvalid() {
+        return mergeRuleResults(invalidValue);
+    }
+
+    private Result<Integer> mergeRuleResults(Integer value) {
+        final Result<Integer> result = Result.<Integer>successful().withValue(value);
+        for (Function<Integer, Result<NoValue>> rule : ruleResults) {
+            final Result<NoValue> ruleResult = rule.apply(value);
+            if (ruleResult.isFailed()) {
+                result.withReasons(ruleResult.reasons());
+            }
+        }
+        return result;
+    }
+}
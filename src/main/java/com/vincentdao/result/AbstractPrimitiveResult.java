@@ -0,0 +1,383 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.LazyFailure;
+import com.vincentdao.result.trace.LazySuccess;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.ReasonCapacity;
+import com.vincentdao.result.trace.Success;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Implements the status and reason operations shared by the primitive-specialized results ({@link IntResult},
+ * {@link LongResult} and {@link DoubleResult}), which behave like their {@link Result} counterparts.
+ *
+ * @param <R> The concrete result type, returned by the {@code with*} methods.
+ */
+abstract class AbstractPrimitiveResult<R extends AbstractPrimitiveResult<R>> {
+
+    static final String FAILED_VALUE_MESSAGE = "Cannot get value while in failed state.";
+
+    private boolean isSuccessful;
+    private Reasons reasons;
+
+    AbstractPrimitiveResult(boolean isSuccessful, Reasons reasons) {
+        this.isSuccessful = isSuccessful;
+        this.reasons = reasons;
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            listener.onCreated(isSuccessful);
+        }
+    }
+
+    abstract R self();
+
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    public boolean isFailed() {
+        return !isSuccessful;
+    }
+
+    void checkSuccessful() {
+        if (!isSuccessful) {
+            throw new IllegalStateException(FAILED_VALUE_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns the reasons marked as shared, for deriving a new result from this one without copying them.
+     */
+    Reasons shareReasons() {
+        return Objects.isNull(reasons) ? null : reasons.share();
+    }
+
+    public R withFailureMessage(String message) {
+        return addFailure(new DefaultFailure(message));
+    }
+
+    /**
+     * Adds a {@link LazyFailure}, whose message is only formatted when first read.
+     */
+    public R withFailureMessage(String template, Object... args) {
+        return addFailure(new LazyFailure(template, args));
+    }
+
+    /**
+     * Adds a {@link LazyFailure}, whose message is only supplied when first read.
+     */
+    public R withFailureMessageLazy(Supplier<String> message) {
+        return addFailure(new LazyFailure(message));
+    }
+
+    public R withFailure(Failure failure) {
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Failure trace must be defined.");
+        }
+        return addFailure(failure);
+    }
+
+    public R withFailures(Collection<Failure> failures) {
+        if (Objects.isNull(failures)) {
+            throw new NullPointerException("Failure list must be defined.");
+        }
+        if (failures.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Failure list contains null.");
+        }
+        addAllReasons(failures);
+        changeSuccessStatusWhenAddingFailure();
+        return self();
+    }
+
+    /**
+     * Adds the shared {@link com.vincentdao.result.trace.CodedFailure} of the code.
+     */
+    public R withFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        return addFailure(code.failure());
+    }
+
+    public R withExceptionalFailure(Exception exception) {
+        if (Objects.isNull(exception)) {
+            throw new NullPointerException("Exceptional failure must be defined.");
+        }
+        return addFailure(new ExceptionalFailure(exception));
+    }
+
+    public R withExceptionalFailure(Class<? extends Exception> type, String message) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Exception type must be defined.");
+        }
+        return addFailure(ExceptionalFailure.of(type, message));
+    }
+
+    private R addFailure(Failure failure) {
+        addReason(failure);
+        changeSuccessStatusWhenAddingFailure();
+        return self();
+    }
+
+    private void changeSuccessStatusWhenAddingFailure() {
+        if (isSuccessful) {
+            isSuccessful = false;
+            final ResultListener listener = ResultListeners.active;
+            if (Objects.nonNull(listener)) {
+                listener.onFailed();
+            }
+        }
+    }
+
+    public R withSuccessMessage(String message) {
+        addReason(new DefaultSuccess(message));
+        return self();
+    }
+
+    /**
+     * Adds a {@link LazySuccess}, whose message is only formatted when first read.
+     */
+    public R withSuccessMessage(String template, Object... args) {
+        addReason(new LazySuccess(template, args));
+        return self();
+    }
+
+    /**
+     * Adds a {@link LazySuccess}, whose message is only supplied when first read.
+     */
+    public R withSuccessMessageLazy(Supplier<String> message) {
+        addReason(new LazySuccess(message));
+        return self();
+    }
+
+    public R withSuccess(Success success) {
+        if (Objects.isNull(success)) {
+            throw new NullPointerException("Success must be defined.");
+        }
+        addReason(success);
+        return self();
+    }
+
+    public R withSuccesses(Collection<Success> successes) {
+        if (Objects.isNull(successes)) {
+            throw new NullPointerException("Success list must be defined.");
+        }
+        if (successes.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Success list contains null.");
+        }
+        addAllReasons(successes);
+        return self();
+    }
+
+    public R withReason(Reason reason) {
+        if (Objects.isNull(reason)) {
+            throw new NullPointerException("Reason must be defined.");
+        }
+        addReason(reason);
+        return self();
+    }
+
+    public R withReasons(Collection<Reason> reasons) {
+        if (Objects.isNull(reasons)) {
+            throw new NullPointerException("Reason list must be defined.");
+        }
+        if (reasons.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Reason list contains null.");
+        }
+        addAllReasons(reasons);
+        return self();
+    }
+
+    /**
+     * Bounds the reasons stored to the capacity, applying its overflow policy to the reasons already added and to those
+     * added afterwards. The status is unaffected by dropped reasons, which are counted by
+     * {@link #droppedReasonCount()}.
+     */
+    public R withReasonCapacity(ReasonCapacity capacity) {
+        if (Objects.isNull(capacity)) {
+            throw new NullPointerException("Reason capacity must be defined.");
+        }
+        reasons = Objects.isNull(reasons) ? new Reasons(capacity) : reasons.withCapacity(capacity);
+        return self();
+    }
+
+    private void addReason(Reason reason) {
+        mutableReasons().add(reason);
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            listener.onReason(reason);
+        }
+    }
+
+    private void addAllReasons(Collection<? extends Reason> reasonsToAdd) {
+        if (reasonsToAdd.isEmpty()) {
+            return;
+        }
+        mutableReasons().addAll(reasonsToAdd);
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            reasonsToAdd.forEach(listener::onReason);
+        }
+    }
+
+    private Reasons mutableReasons() {
+        if (Objects.isNull(reasons)) {
+            reasons = new Reasons();
+        } else if (reasons.isShared()) {
+            reasons = new Reasons(reasons);
+        }
+        return reasons;
+    }
+
+    public Collection<Reason> reasons() {
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.toList();
+    }
+
+    public Collection<Reason> reasonsFiltered(Predicate<? super Reason> filter) {
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.filtered(filter);
+    }
+
+    public Collection<Failure> failures() {
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.failures();
+    }
+
+    public Collection<Success> successes() {
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.successes();
+    }
+
+    public int failureCount() {
+        return Objects.isNull(reasons) ? 0 : reasons.failureCount();
+    }
+
+    public int successCount() {
+        return Objects.isNull(reasons) ? 0 : reasons.successCount();
+    }
+
+    /**
+     * Returns whether a {@link Failure} of the given type, or of one of its subtypes, was added.
+     */
+    public boolean hasFailure(Class<? extends Failure> type) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Failure type must be defined.");
+        }
+        return Objects.nonNull(reasons) && reasons.hasFailure(type);
+    }
+
+    /**
+     * Returns whether the {@link com.vincentdao.result.trace.CodedFailure} of the code was added.
+     */
+    public boolean hasFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        return Objects.nonNull(reasons) && reasons.hasFailureCode(code);
+    }
+
+    /**
+     * Returns the number of reasons dropped by a bounded {@link ReasonCapacity}, {@code 0} if unbounded.
+     */
+    public long droppedReasonCount() {
+        return Objects.isNull(reasons) ? 0 : reasons.dropped();
+    }
+
+    /**
+     * Returns the first {@link Failure} added, if any.
+     */
+    public Optional<Failure> firstFailure() {
+        return Objects.isNull(reasons) ? Optional.empty() : Optional.ofNullable(reasons.firstFailure());
+    }
+
+    /**
+     * Returns an unmodifiable view of the reasons, without copying them.
+     * <p>
+     * The view is live: it reflects reasons added to this {@code result} afterwards. It must not be read while this
+     * {@code result} is being modified.
+     */
+    public List<Reason> reasonsView() {
+        return ReasonView.all(() -> reasons);
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the {@link Failure} reasons, with the same contract as
+     * {@link #reasonsView()}.
+     */
+    public List<Failure> failuresView() {
+        return ReasonView.failures(() -> reasons);
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the {@link Success} reasons, with the same contract as
+     * {@link #reasonsView()}.
+     */
+    public List<Success> successesView() {
+        return ReasonView.successes(() -> reasons);
+    }
+
+    public void forEachReason(Consumer<? super Reason> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (Objects.nonNull(reasons)) {
+            reasons.forEach(action);
+        }
+    }
+
+    public void forEachFailure(Consumer<? super Failure> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (Objects.nonNull(reasons)) {
+            reasons.forEachFailure(action);
+        }
+    }
+
+    public void forEachSuccess(Consumer<? super Success> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (Objects.nonNull(reasons)) {
+            reasons.forEachSuccess(action);
+        }
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the reasons, iterating the storage directly. The stream covers the
+     * reasons added before this call.
+     */
+    public Stream<Reason> reasonStream() {
+        return Objects.isNull(reasons) ? Stream.empty() : reasons.stream();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the {@link Failure} reasons, with the same contract as
+     * {@link #reasonStream()}.
+     */
+    public Stream<Failure> failureStream() {
+        return Objects.isNull(reasons) ? Stream.empty() : reasons.failureStream();
+    }
+}
@@ -0,0 +1,251 @@
+package com.vincentdao.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that completes asynchronously, composed on top of {@link CompletableFuture}.
+ * <p>
+ * The underlying future never completes exceptionally: an {@link Exception} thrown by a supplied function, or an
+ * exceptional completion of a wrapped {@link CompletionStage}, becomes a failed {@code Result} with an
+ * {@link com.vincentdao.result.trace.ExceptionalFailure}. {@link Error}s are not converted and propagate as usual.
+ * <p>
+ * The {@code *Async} methods run the supplied function on the given {@link Executor}, so callers decide where the
+ * work runs (e.g. on virtual threads or a bounded pool). The other methods run the function in the thread that
+ * completes the previous stage. A rejected execution becomes a failed {@code Result} as well.
+ *
+ * @param <T> The type of value that the {@code Result} holds.
+ */
+public final class AsyncResult<T> {
+
+    /**
+     * Runs the supplier on {@link ResultExecutors#defaultExecutor()}: a virtual thread on Java 21 and later.
+     */
+    public static <T> AsyncResult<T> supplyAsync(Supplier<? extends Result<T>> supplier) {
+        return supplyAsync(supplier, ResultExecutors.defaultExecutor());
+    }
+
+    public static <T> AsyncResult<T> supplyAsync(Supplier<? extends Result<T>> supplier, Executor executor) {
+        if (Objects.isNull(supplier)) {
+            throw new NullPointerException("Supplier must be defined.");
+        }
+        if (Objects.isNull(executor)) {
+            throw new NullPointerException("Executor must be defined.");
+        }
+        try {
+            return new AsyncResult<>(CompletableFuture.supplyAsync(() -> capture(supplier), executor));
+        } catch (RejectedExecutionException e) {
+            return completed(Result.<T>failed().withExceptionalFailure(e));
+        }
+    }
+
+    public static <T> AsyncResult<T> completed(Result<T> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Wraps a {@link CompletionStage} of a {@link Result}, turning an exceptional completion into a failed
+     * {@code Result}.
+     */
+    public static <T> AsyncResult<T> from(CompletionStage<? extends Result<T>> stage) {
+        if (Objects.isNull(stage)) {
+            throw new NullPointerException("Completion stage must be defined.");
+        }
+        return new AsyncResult<>(stage.handle((result, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                return AsyncResult.<T>failedWith(throwable);
+            }
+            if (Objects.isNull(result)) {
+                return Result.<T>failed().withFailureMessage("Completed without a result.");
+            }
+            return result;
+        }).toCompletableFuture());
+    }
+
+    /**
+     * Wraps a {@link CompletionStage} of a plain value, which becomes a successful {@code Result} holding it. An
+     * exceptional completion, or a {@code null} value, becomes a failed {@code Result}.
+     */
+    public static <T> AsyncResult<T> fromValue(CompletionStage<? extends T> stage) {
+        if (Objects.isNull(stage)) {
+            throw new NullPointerException("Completion stage must be defined.");
+        }
+        return new AsyncResult<>(stage.handle((value, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                return AsyncResult.<T>failedWith(throwable);
+            }
+            if (Objects.isNull(value)) {
+                return Result.<T>failed().withFailureMessage("Completed without a value.");
+            }
+            return Result.<T>successful().withValue(value);
+        }).toCompletableFuture());
+    }
+
+    /**
+     * Completes when all the given results complete, with a {@code Result} holding their values in order. The
+     * {@code Result} is failed if any of them failed, and holds the reasons of all of them in order.
+     */
+    public static <T> AsyncResult<List<T>> allOf(Collection<? extends AsyncResult<T>> results) {
+        if (Objects.isNull(results)) {
+            throw new NullPointerException("Result list must be defined.");
+        }
+        if (results.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Result list contains null.");
+        }
+        final List<CompletableFuture<Result<T>>> futures = new ArrayList<>(results.size());
+        for (AsyncResult<T> result : results) {
+            futures.add(result.future);
+        }
+        return new AsyncResult<>(CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> merge(futures)));
+    }
+
+    private static <T> Result<List<T>> merge(List<CompletableFuture<Result<T>>> futures) {
+        final ListResultAccumulator<T> accumulator = new ListResultAccumulator<>();
+        for (CompletableFuture<Result<T>> future : futures) {
+            accumulator.add(future.join());
+        }
+        return accumulator.toResult();
+    }
+
+    private static <T> Result<T> capture(Supplier<? extends Result<T>> supplier) {
+        final Result<T> result;
+        try {
+            result = supplier.get();
+        } catch (Exception e) {
+            return Result.<T>failed().withExceptionalFailure(e);
+        }
+        if (Objects.isNull(result)) {
+            return Result.<T>failed().withFailureMessage("Supplied result must be defined.");
+        }
+        return result;
+    }
+
+    private static <T> Result<T> failedWith(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && Objects.nonNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof Exception) {
+            return Result.<T>failed().withExceptionalFailure((Exception) cause);
+        }
+        return Result.<T>failed().withExceptionalFailure(new CompletionException(cause));
+    }
+
+    private final CompletableFuture<Result<T>> future;
+
+    private AsyncResult(CompletableFuture<Result<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Applies {@link Result#map(Function)} once completed, in the completing thread.
+     */
+    public <U> AsyncResult<U> thenMap(Function<? super T, ? extends U> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        return new AsyncResult<>(future.thenApply(result -> capture(result, () -> result.<U>map(mapper))));
+    }
+
+    /**
+     * Applies {@link Result#map(Function)} once completed, on the given {@link Executor}.
+     */
+    public <U> AsyncResult<U> thenMapAsync(Function<? super T, ? extends U> mapper, Executor executor) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (Objects.isNull(executor)) {
+            throw new NullPointerException("Executor must be defined.");
+        }
+        return new AsyncResult<>(future.thenApplyAsync(result -> capture(result, () -> result.<U>map(mapper)), executor)
+                .handle((result, throwable) -> Objects.isNull(throwable) ? result : failedWith(throwable)));
+    }
+
+    /**
+     * Applies {@link Result#flatMap(Function)} once completed, in the completing thread.
+     */
+    public <U> AsyncResult<U> thenFlatMap(Function<? super T, ? extends Result<U>> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        return new AsyncResult<>(future.thenApply(result -> capture(result, () -> result.<U>flatMap(mapper))));
+    }
+
+    /**
+     * Once completed successfully, continues with the {@code AsyncResult} returned by the mapper. The final
+     * {@code Result} holds the reasons of this one followed by those of the mapped one, as in
+     * {@link Result#flatMap(Function)}.
+     * <p>
+     * A failed {@code Result} completes the returned {@code AsyncResult} with a new failed {@code Result} sharing its
+     * reasons, without applying the mapper.
+     */
+    public <U> AsyncResult<U> thenCompose(Function<? super T, ? extends AsyncResult<U>> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        return new AsyncResult<>(future.thenCompose(result -> {
+            if (result.isFailed()) {
+                return CompletableFuture.completedFuture(Result.<U>create(false, null, result.shareReasons()));
+            }
+            final AsyncResult<U> mapped;
+            try {
+                mapped = mapper.apply(result.rawValue());
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(AsyncResult.<T, U>failedFrom(result, e));
+            }
+            if (Objects.isNull(mapped)) {
+                return CompletableFuture.completedFuture(AsyncResult.<T, U>failedFrom(result,
+                        new NullPointerException("Mapped result must be defined.")));
+            }
+            return mapped.future.thenApply(mappedResult -> result.flatMap(value -> mappedResult));
+        }));
+    }
+
+    private static <T, U> Result<U> capture(Result<T> source, Supplier<Result<U>> operation) {
+        try {
+            return operation.get();
+        } catch (Exception e) {
+            return failedFrom(source, e);
+        }
+    }
+
+    /**
+     * Creates a failed {@code Result} holding the reasons of the source followed by the exception.
+     */
+    private static <T, U> Result<U> failedFrom(Result<T> source, Exception exception) {
+        return Result.<U>create(false, null, source.shareReasons()).withExceptionalFailure(exception);
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} completed with the {@code Result}. Completing it does not affect this
+     * {@code AsyncResult}.
+     */
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Waits for the {@code Result}. Does not throw for failed results, which are returned as is.
+     */
+    public Result<T> join() {
+        return future.join();
+    }
+}
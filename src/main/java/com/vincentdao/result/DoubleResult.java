@@ -0,0 +1,113 @@
+package com.vincentdao.result;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A {@link Result} specialized for {@code double} values, storing the value unboxed.
+ * <p>
+ * Status and reasons behave as in {@link Result}: adding a {@link com.vincentdao.result.trace.Failure} to a successful
+ * {@code DoubleResult} converts it into a failed one. The mapping methods return a new result sharing the reasons of
+ * this one, failed without applying the mapper when this one is failed. Shared reasons are copied on the first
+ * modification of either result.
+ * <p>
+ * Note: Like {@link Result}, {@code DoubleResult} is NOT thread-safe.
+ */
+public final class DoubleResult extends AbstractPrimitiveResult<DoubleResult> {
+
+    public static DoubleResult successful(double value) {
+        return new DoubleResult(true, value, null);
+    }
+
+    public static DoubleResult failed() {
+        return new DoubleResult(false, 0.0, null);
+    }
+
+    /**
+     * Converts the given {@link Result}, unboxing its value. The reasons are shared.
+     */
+    public static DoubleResult from(Result<Double> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        if (result.isFailed()) {
+            return new DoubleResult(false, 0.0, result.shareReasons());
+        }
+        return new DoubleResult(true, result.value(), result.shareReasons());
+    }
+
+    static DoubleResult create(boolean isSuccessful, double value, Reasons reasons) {
+        return new DoubleResult(isSuccessful, value, reasons);
+    }
+
+    private final double value;
+
+    private DoubleResult(boolean isSuccessful, double value, Reasons reasons) {
+        super(isSuccessful, reasons);
+        this.value = value;
+    }
+
+    @Override
+    DoubleResult self() {
+        return this;
+    }
+
+    public double valueAsDouble() {
+        checkSuccessful();
+        return value;
+    }
+
+    public DoubleResult map(DoubleUnaryOperator mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return new DoubleResult(false, value, shareReasons());
+        }
+        return new DoubleResult(true, mapper.applyAsDouble(value), shareReasons());
+    }
+
+    public IntResult mapToInt(DoubleToIntFunction mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return IntResult.create(false, 0, shareReasons());
+        }
+        return IntResult.create(true, mapper.applyAsInt(value), shareReasons());
+    }
+
+    public LongResult mapToLong(DoubleToLongFunction mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return LongResult.create(false, 0L, shareReasons());
+        }
+        return LongResult.create(true, mapper.applyAsLong(value), shareReasons());
+    }
+
+    public <U> Result<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return Result.create(false, null, shareReasons());
+        }
+        final U mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped value must be defined.");
+        }
+        return Result.create(true, mapped, shareReasons());
+    }
+
+    /**
+     * Converts this result into a {@link Result}, boxing the value. The reasons are shared.
+     */
+    public Result<Double> boxed() {
+        return Result.create(isSuccessful(), isSuccessful() ? value : null, shareReasons());
+    }
+}
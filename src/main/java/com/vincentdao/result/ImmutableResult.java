@@ -0,0 +1,416 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.CodedFailure;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.Success;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An immutable counterpart of {@link Result}: every {@code with*} method returns a new {@code ImmutableResult},
+ * leaving this one unchanged, so instances can be published to other threads and cached without copying.
+ * <p>
+ * The reasons are held in a persistent linked list, newest first: a derived {@code ImmutableResult} shares the whole
+ * reason history of the one it was derived from and only adds a node per new reason, so adding a reason is O(1)
+ * regardless of the number of reasons. Each node carries the size, failure count and first failure of the list it
+ * heads, so {@link #reasonCount()}, {@link #failureCount()} and {@link #firstFailure()} are O(1) as well, while
+ * reading the reasons in insertion order and the type and code lookups are O(n).
+ * <p>
+ * The status follows the same rules as {@link Result}: the {@code withFailure*} methods return a failed
+ * {@code ImmutableResult}, even for an empty collection of failures, and keep the value, while
+ * {@link #withReason(Reason)} and {@link #withReasons(Collection)} never change the status, even when adding
+ * {@link Failure}s. Converting with {@link #from(Result)} and {@link #toResult()} therefore gives the same status and
+ * reasons as applying the same methods to a {@link Result}.
+ * <p>
+ * Every {@code ImmutableResult} created, including those returned by the {@code with*} methods, is reported to the
+ * active {@link ResultListener}, followed by the reasons it adds. As no instance ever becomes failed,
+ * {@link ResultListener#onFailed()} is not invoked: a failure added to a successful one is counted as a failed
+ * creation.
+ * <p>
+ * Note: the reasons themselves are shared, not copied. Mutable reasons, such as {@link Failure}s gaining causes
+ * through {@link Failure#causedBy(Failure)}, must not be modified once added.
+ *
+ * @param <T> The type of value that {@code ImmutableResult} holds.
+ */
+public final class ImmutableResult<T> {
+
+    private static final class Node {
+
+        private final Reason reason;
+        private final Node next;
+        private final int size;
+        private final int failureCount;
+        /**
+         * The oldest failure of the list this node heads, {@code null} if none.
+         */
+        private final Failure firstFailure;
+
+        private Node(Reason reason, Node next) {
+            this.reason = reason;
+            this.next = next;
+            this.size = Objects.isNull(next) ? 1 : next.size + 1;
+            final int previousFailureCount = Objects.isNull(next) ? 0 : next.failureCount;
+            this.failureCount = reason instanceof Failure ? previousFailureCount + 1 : previousFailureCount;
+            final Failure previousFirstFailure = Objects.isNull(next) ? null : next.firstFailure;
+            this.firstFailure = Objects.isNull(previousFirstFailure) && reason instanceof Failure
+                    ? (Failure) reason
+                    : previousFirstFailure;
+        }
+    }
+
+    private static final ImmutableResult<NoValue> SUCCESSFUL_NO_VALUE =
+            new ImmutableResult<>(true, NoValue.instance(), null);
+
+    private static final ImmutableResult<?> FAILED = new ImmutableResult<>(false, null, null);
+
+    public static <T> ImmutableResult<T> successful(T value) {
+        if (Objects.isNull(value)) {
+            throw new NullPointerException("Value must be defined. Consider using ImmutableResult.successful()"
+                    + " instead.");
+        }
+        return new ImmutableResult<>(true, value, null);
+    }
+
+    /**
+     * Returns the successful {@code ImmutableResult<NoValue>}, shared by all callers.
+     */
+    public static ImmutableResult<NoValue> successful() {
+        return SUCCESSFUL_NO_VALUE;
+    }
+
+    /**
+     * Returns the failed {@code ImmutableResult} without reasons, shared by all callers.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ImmutableResult<T> failed() {
+        return (ImmutableResult<T>) FAILED;
+    }
+
+    /**
+     * Converts the given {@link Result}, copying its reasons once.
+     */
+    public static <T> ImmutableResult<T> from(Result<T> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        final Reasons reasons = result.storedReasons();
+        Node head = null;
+        if (Objects.nonNull(reasons)) {
+            for (int i = 0; i < reasons.size(); i++) {
+                head = new Node(reasons.get(i), head);
+            }
+        }
+        return new ImmutableResult<>(result.isSuccessful(), result.rawValue(), head);
+    }
+
+    private final boolean isSuccessful;
+    /**
+     * Kept when failures are added, as {@link Result} does, though {@link #value()} then throws.
+     */
+    private final T value;
+    /**
+     * The newest reason, {@code null} if none were added.
+     */
+    private final Node head;
+
+    private ImmutableResult(boolean isSuccessful, T value, Node head) {
+        this.isSuccessful = isSuccessful;
+        this.value = value;
+        this.head = head;
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            listener.onCreated(isSuccessful);
+        }
+    }
+
+    /**
+     * Returns a new {@code ImmutableResult} holding the value, with the reasons from {@code added} down to the head of
+     * this one reported as added.
+     */
+    private ImmutableResult<T> derive(boolean derivedSuccessful, Node added) {
+        final ImmutableResult<T> derived = new ImmutableResult<>(derivedSuccessful, value, added);
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            for (Node node = added; node != head; node = node.next) {
+                listener.onReason(node.reason);
+            }
+        }
+        return derived;
+    }
+
+    /**
+     * Returns a new, mutable {@link Result} holding a copy of the reasons.
+     */
+    public Result<T> toResult() {
+        final Reason[] elements = toArray();
+        return Result.create(isSuccessful, value, elements.length == 0 ? null : new Reasons(elements, elements.length));
+    }
+
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    public boolean isFailed() {
+        return !isSuccessful;
+    }
+
+    public T value() {
+        if (!isSuccessful) {
+            throw new IllegalStateException("Cannot get value while in failed state.");
+        }
+        if (value instanceof NoValue) {
+            throw new IllegalStateException("cannot get value from no-value result.");
+        }
+        return value;
+    }
+
+    /**
+     * Applies the mapper to the value of a successful {@code ImmutableResult}, returning a new one that shares the
+     * reasons of this one.
+     * <p>
+     * A failed {@code ImmutableResult} is returned without applying the mapper.
+     */
+    public <U> ImmutableResult<U> map(Function<? super T, ? extends U> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (!isSuccessful) {
+            return failedAs();
+        }
+        final U mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped value must be defined.");
+        }
+        return new ImmutableResult<>(true, mapped, head);
+    }
+
+    /**
+     * Applies the mapper to the value of a successful {@code ImmutableResult}, returning the status and value of the
+     * mapped one with the reasons of this one followed by its own. Only the reasons of the mapped one are copied.
+     * <p>
+     * A failed {@code ImmutableResult} is returned without applying the mapper.
+     */
+    public <U> ImmutableResult<U> flatMap(Function<? super T, ? extends ImmutableResult<U>> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (!isSuccessful) {
+            return failedAs();
+        }
+        final ImmutableResult<U> mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped result must be defined.");
+        }
+        if (Objects.isNull(head)) {
+            return mapped;
+        }
+        Node merged = head;
+        for (Reason reason : mapped.toArray()) {
+            merged = new Node(reason, merged);
+        }
+        return new ImmutableResult<>(mapped.isSuccessful, mapped.value, merged);
+    }
+
+    /**
+     * Returns this failed {@code ImmutableResult} retyped, or a copy without the value if it still holds one, so that
+     * the value is never typed as {@code U}.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> ImmutableResult<U> failedAs() {
+        if (Objects.isNull(value)) {
+            return (ImmutableResult<U>) this;
+        }
+        return new ImmutableResult<>(false, null, head);
+    }
+
+    public ImmutableResult<T> withFailureMessage(String message) {
+        return withFailureUnchecked(new DefaultFailure(message));
+    }
+
+    public ImmutableResult<T> withFailure(Failure failure) {
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Failure trace must be defined.");
+        }
+        return withFailureUnchecked(failure);
+    }
+
+    public ImmutableResult<T> withFailures(Collection<Failure> failures) {
+        if (Objects.isNull(failures)) {
+            throw new NullPointerException("Failure list must be defined.");
+        }
+        if (failures.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Failure list contains null.");
+        }
+        Node added = head;
+        for (Failure failure : failures) {
+            added = new Node(failure, added);
+        }
+        return derive(false, added);
+    }
+
+    /**
+     * Adds the shared {@link CodedFailure} of the code.
+     */
+    public ImmutableResult<T> withFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        return withFailureUnchecked(code.failure());
+    }
+
+    public ImmutableResult<T> withExceptionalFailure(Exception exception) {
+        if (Objects.isNull(exception)) {
+            throw new NullPointerException("Exceptional failure must be defined.");
+        }
+        return withFailureUnchecked(new ExceptionalFailure(exception));
+    }
+
+    private ImmutableResult<T> withFailureUnchecked(Failure failure) {
+        return derive(false, new Node(failure, head));
+    }
+
+    public ImmutableResult<T> withSuccessMessage(String message) {
+        return derive(isSuccessful, new Node(new DefaultSuccess(message), head));
+    }
+
+    public ImmutableResult<T> withSuccess(Success success) {
+        if (Objects.isNull(success)) {
+            throw new NullPointerException("Success must be defined.");
+        }
+        return derive(isSuccessful, new Node(success, head));
+    }
+
+    public ImmutableResult<T> withReason(Reason reason) {
+        if (Objects.isNull(reason)) {
+            throw new NullPointerException("Reason must be defined.");
+        }
+        return derive(isSuccessful, new Node(reason, head));
+    }
+
+    public ImmutableResult<T> withReasons(Collection<Reason> reasons) {
+        if (Objects.isNull(reasons)) {
+            throw new NullPointerException("Reason list must be defined.");
+        }
+        if (reasons.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Reason list contains null.");
+        }
+        if (reasons.isEmpty()) {
+            return this;
+        }
+        Node added = head;
+        for (Reason reason : reasons) {
+            added = new Node(reason, added);
+        }
+        return derive(isSuccessful, added);
+    }
+
+    private Reason[] toArray() {
+        if (Objects.isNull(head)) {
+            return new Reason[0];
+        }
+        final Reason[] elements = new Reason[head.size];
+        Node node = head;
+        for (int i = head.size - 1; i >= 0; i--) {
+            elements[i] = node.reason;
+            node = node.next;
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the reasons in the order they were added.
+     */
+    public List<Reason> reasons() {
+        return Collections.unmodifiableList(Arrays.asList(toArray()));
+    }
+
+    public List<Failure> failures() {
+        final List<Failure> failures = new ArrayList<>(failureCount());
+        forEachReason(reason -> {
+            if (reason instanceof Failure) {
+                failures.add((Failure) reason);
+            }
+        });
+        return Collections.unmodifiableList(failures);
+    }
+
+    public List<Success> successes() {
+        final List<Success> successes = new ArrayList<>(reasonCount() - failureCount());
+        forEachReason(reason -> {
+            if (reason instanceof Success) {
+                successes.add((Success) reason);
+            }
+        });
+        return Collections.unmodifiableList(successes);
+    }
+
+    public int reasonCount() {
+        return Objects.isNull(head) ? 0 : head.size;
+    }
+
+    public int failureCount() {
+        return Objects.isNull(head) ? 0 : head.failureCount;
+    }
+
+    /**
+     * Returns whether a {@link Failure} of the given type, or of one of its subtypes, was added. Walks the reasons, so
+     * O(n).
+     */
+    public boolean hasFailure(Class<? extends Failure> type) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Failure type must be defined.");
+        }
+        for (Node node = head; Objects.nonNull(node); node = node.next) {
+            if (type.isInstance(node.reason)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the {@link CodedFailure} of the code was added. Walks the reasons, so O(n).
+     */
+    public boolean hasFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        for (Node node = head; Objects.nonNull(node); node = node.next) {
+            if (node.reason instanceof CodedFailure && ((CodedFailure) node.reason).code() == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first {@link Failure} added, if any.
+     */
+    public Optional<Failure> firstFailure() {
+        return Optional.ofNullable(Objects.isNull(head) ? null : head.firstFailure);
+    }
+
+    /**
+     * Visits the reasons in the order they were added.
+     */
+    public void forEachReason(Consumer<? super Reason> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        for (Reason reason : toArray()) {
+            action.accept(reason);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.vincentdao.result;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link Result} specialized for {@code int} values, storing the value unboxed.
+ * <p>
+ * Status and reasons behave as in {@link Result}: adding a {@link com.vincentdao.result.trace.Failure} to a successful
+ * {@code IntResult} converts it into a failed one. The mapping methods return a new result sharing the reasons of this
+ * one, failed without applying the mapper when this one is failed. Shared reasons are copied on the first modification
+ * of either result.
+ * <p>
+ * Note: Like {@link Result}, {@code IntResult} is NOT thread-safe.
+ */
+public final class IntResult extends AbstractPrimitiveResult<IntResult> {
+
+    public static IntResult successful(int value) {
+        return new IntResult(true, value, null);
+    }
+
+    public static IntResult failed() {
+        return new IntResult(false, 0, null);
+    }
+
+    /**
+     * Converts the given {@link Result}, unboxing its value. The reasons are shared.
+     */
+    public static IntResult from(Result<Integer> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        if (result.isFailed()) {
+            return new IntResult(false, 0, result.shareReasons());
+        }
+        return new IntResult(true, result.value(), result.shareReasons());
+    }
+
+    static IntResult create(boolean isSuccessful, int value, Reasons reasons) {
+        return new IntResult(isSuccessful, value, reasons);
+    }
+
+    private final int value;
+
+    private IntResult(boolean isSuccessful, int value, Reasons reasons) {
+        super(isSuccessful, reasons);
+        this.value = value;
+    }
+
+    @Override
+    IntResult self() {
+        return this;
+    }
+
+    public int valueAsInt() {
+        checkSuccessful();
+        return value;
+    }
+
+    public IntResult map(IntUnaryOperator mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return new IntResult(false, value, shareReasons());
+        }
+        return new IntResult(true, mapper.applyAsInt(value), shareReasons());
+    }
+
+    public LongResult mapToLong(IntToLongFunction mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return LongResult.create(false, 0L, shareReasons());
+        }
+        return LongResult.create(true, mapper.applyAsLong(value), shareReasons());
+    }
+
+    public DoubleResult mapToDouble(IntToDoubleFunction mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return DoubleResult.create(false, 0.0, shareReasons());
+        }
+        return DoubleResult.create(true, mapper.applyAsDouble(value), shareReasons());
+    }
+
+    public <U> Result<U> mapToObj(IntFunction<? extends U> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return Result.create(false, null, shareReasons());
+        }
+        final U mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped value must be defined.");
+        }
+        return Result.create(true, mapped, shareReasons());
+    }
+
+    /**
+     * Converts this result into a {@link Result}, boxing the value. The reasons are shared.
+     */
+    public Result<Integer> boxed() {
+        return Result.create(isSuccessful(), isSuccessful() ? value : null, shareReasons());
+    }
+}
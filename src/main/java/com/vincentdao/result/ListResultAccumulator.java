@@ -0,0 +1,64 @@
+package com.vincentdao.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Mutable container merging results into a single {@code Result<List<T>>}, used by {@link Results#toListResult()}
+ * and {@link AsyncResult#allOf(java.util.Collection)}.
+ * <p>
+ * Values are only kept while all accumulated results are successful, and reasons are appended straight from the
+ * storage of each result.
+ */
+final class ListResultAccumulator<T> {
+
+    private List<T> values = new ArrayList<>();
+    private Reasons reasons;
+    private boolean isSuccessful = true;
+
+    void add(Result<T> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        if (result.isSuccessful()) {
+            if (isSuccessful) {
+                values.add(result.rawValue());
+            }
+        } else {
+            fail();
+        }
+        addReasons(result.storedReasons());
+    }
+
+    ListResultAccumulator<T> combine(ListResultAccumulator<T> other) {
+        if (other.isSuccessful) {
+            if (isSuccessful) {
+                values.addAll(other.values);
+            }
+        } else {
+            fail();
+        }
+        addReasons(other.reasons);
+        return this;
+    }
+
+    private void fail() {
+        isSuccessful = false;
+        values = null;
+    }
+
+    private void addReasons(Reasons reasonsToAdd) {
+        if (Objects.isNull(reasonsToAdd) || reasonsToAdd.size() == 0) {
+            return;
+        }
+        if (Objects.isNull(reasons)) {
+            reasons = new Reasons();
+        }
+        reasons.addAll(reasonsToAdd);
+    }
+
+    Result<List<T>> toResult() {
+        return Result.create(isSuccessful, values, reasons);
+    }
+}
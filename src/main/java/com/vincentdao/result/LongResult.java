@@ -0,0 +1,113 @@
+package com.vincentdao.result;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A {@link Result} specialized for {@code long} values, storing the value unboxed.
+ * <p>
+ * Status and reasons behave as in {@link Result}: adding a {@link com.vincentdao.result.trace.Failure} to a successful
+ * {@code LongResult} converts it into a failed one. The mapping methods return a new result sharing the reasons of this
+ * one, failed without applying the mapper when this one is failed. Shared reasons are copied on the first modification
+ * of either result.
+ * <p>
+ * Note: Like {@link Result}, {@code LongResult} is NOT thread-safe.
+ */
+public final class LongResult extends AbstractPrimitiveResult<LongResult> {
+
+    public static LongResult successful(long value) {
+        return new LongResult(true, value, null);
+    }
+
+    public static LongResult failed() {
+        return new LongResult(false, 0L, null);
+    }
+
+    /**
+     * Converts the given {@link Result}, unboxing its value. The reasons are shared.
+     */
+    public static LongResult from(Result<Long> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        if (result.isFailed()) {
+            return new LongResult(false, 0L, result.shareReasons());
+        }
+        return new LongResult(true, result.value(), result.shareReasons());
+    }
+
+    static LongResult create(boolean isSuccessful, long value, Reasons reasons) {
+        return new LongResult(isSuccessful, value, reasons);
+    }
+
+    private final long value;
+
+    private LongResult(boolean isSuccessful, long value, Reasons reasons) {
+        super(isSuccessful, reasons);
+        this.value = value;
+    }
+
+    @Override
+    LongResult self() {
+        return this;
+    }
+
+    public long valueAsLong() {
+        checkSuccessful();
+        return value;
+    }
+
+    public LongResult map(LongUnaryOperator mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return new LongResult(false, value, shareReasons());
+        }
+        return new LongResult(true, mapper.applyAsLong(value), shareReasons());
+    }
+
+    public IntResult mapToInt(LongToIntFunction mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return IntResult.create(false, 0, shareReasons());
+        }
+        return IntResult.create(true, mapper.applyAsInt(value), shareReasons());
+    }
+
+    public DoubleResult mapToDouble(LongToDoubleFunction mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return DoubleResult.create(false, 0.0, shareReasons());
+        }
+        return DoubleResult.create(true, mapper.applyAsDouble(value), shareReasons());
+    }
+
+    public <U> Result<U> mapToObj(LongFunction<? extends U> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isFailed()) {
+            return Result.create(false, null, shareReasons());
+        }
+        final U mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped value must be defined.");
+        }
+        return Result.create(true, mapped, shareReasons());
+    }
+
+    /**
+     * Converts this result into a {@link Result}, boxing the value. The reasons are shared.
+     */
+    public Result<Long> boxed() {
+        return Result.create(isSuccessful(), isSuccessful() ? value : null, shareReasons());
+    }
+}
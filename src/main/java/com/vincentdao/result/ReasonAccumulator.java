@@ -0,0 +1,202 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.LazyFailure;
+import com.vincentdao.result.trace.LazySuccess;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.Success;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe collector of reasons, for reporting the outcome of work fanned out across threads into a single
+ * {@link Result}.
+ * <p>
+ * Adding a reason is lock-free: reasons are pushed onto an immutable linked list with a single compare-and-set, and
+ * each node carries the size and failure count of the list it heads. The status and counts are therefore always
+ * consistent with each other, and {@link #toResult()} takes a consistent snapshot of all reasons added before it.
+ * Reasons added concurrently are ordered as their compare-and-set succeeded.
+ * <p>
+ * As with {@link Result}, adding a {@link Failure}, or the reasons of a failed {@link Result}, marks the outcome as
+ * failed.
+ */
+public final class ReasonAccumulator {
+
+    private static final class Node {
+
+        private final Reason reason;
+        private final Node next;
+        private final int size;
+        private final int failureCount;
+
+        private Node(Reason reason, Node next) {
+            this.reason = reason;
+            this.next = next;
+            this.size = Objects.isNull(next) ? 1 : next.size + 1;
+            final int previousFailureCount = Objects.isNull(next) ? 0 : next.failureCount;
+            this.failureCount = reason instanceof Failure ? previousFailureCount + 1 : previousFailureCount;
+        }
+    }
+
+    private final AtomicReference<Node> head = new AtomicReference<>();
+    /**
+     * Set by {@link #withResult(Result)} for failed results, which may not hold any {@link Failure}.
+     */
+    private volatile boolean failed;
+
+    public ReasonAccumulator withFailureMessage(String message) {
+        return push(new DefaultFailure(message));
+    }
+
+    /**
+     * Adds a {@link LazyFailure}, whose message is only formatted when first read.
+     */
+    public ReasonAccumulator withFailureMessage(String template, Object... args) {
+        return push(new LazyFailure(template, args));
+    }
+
+    /**
+     * Adds a {@link LazyFailure}, whose message is only supplied when first read.
+     */
+    public ReasonAccumulator withFailureMessageLazy(Supplier<String> message) {
+        return push(new LazyFailure(message));
+    }
+
+    public ReasonAccumulator withFailure(Failure failure) {
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Failure trace must be defined.");
+        }
+        return push(failure);
+    }
+
+    /**
+     * Adds the shared {@link com.vincentdao.result.trace.CodedFailure} of the code.
+     */
+    public ReasonAccumulator withFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        return push(code.failure());
+    }
+
+    public ReasonAccumulator withExceptionalFailure(Exception exception) {
+        if (Objects.isNull(exception)) {
+            throw new NullPointerException("Exceptional failure must be defined.");
+        }
+        return push(new ExceptionalFailure(exception));
+    }
+
+    public ReasonAccumulator withSuccessMessage(String message) {
+        return push(new DefaultSuccess(message));
+    }
+
+    /**
+     * Adds a {@link LazySuccess}, whose message is only formatted when first read.
+     */
+    public ReasonAccumulator withSuccessMessage(String template, Object... args) {
+        return push(new LazySuccess(template, args));
+    }
+
+    /**
+     * Adds a {@link LazySuccess}, whose message is only supplied when first read.
+     */
+    public ReasonAccumulator withSuccessMessageLazy(Supplier<String> message) {
+        return push(new LazySuccess(message));
+    }
+
+    public ReasonAccumulator withSuccess(Success success) {
+        if (Objects.isNull(success)) {
+            throw new NullPointerException("Success must be defined.");
+        }
+        return push(success);
+    }
+
+    public ReasonAccumulator withReason(Reason reason) {
+        if (Objects.isNull(reason)) {
+            throw new NullPointerException("Reason must be defined.");
+        }
+        return push(reason);
+    }
+
+    /**
+     * Adds the reasons of the given {@link Result}, turning this outcome failed if the {@code Result} is failed.
+     */
+    public ReasonAccumulator withResult(Result<?> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        // Marked failed before the reasons are published, so a snapshot holding them is never successful.
+        if (result.isFailed()) {
+            failed = true;
+        }
+        final Reasons reasons = result.storedReasons();
+        final int size = Objects.isNull(reasons) ? 0 : reasons.size();
+        for (int i = 0; i < size; i++) {
+            push(reasons.get(i));
+        }
+        return this;
+    }
+
+    private ReasonAccumulator push(Reason reason) {
+        Node current;
+        Node next;
+        do {
+            current = head.get();
+            next = new Node(reason, current);
+        } while (!head.compareAndSet(current, next));
+        return this;
+    }
+
+    public boolean isSuccessful() {
+        return !isFailed();
+    }
+
+    public boolean isFailed() {
+        return failed || failureCount() > 0;
+    }
+
+    public int size() {
+        final Node current = head.get();
+        return Objects.isNull(current) ? 0 : current.size;
+    }
+
+    public int failureCount() {
+        final Node current = head.get();
+        return Objects.isNull(current) ? 0 : current.failureCount;
+    }
+
+    /**
+     * Returns a {@code Result<NoValue>} holding a snapshot of the reasons added so far, failed if any of them is a
+     * {@link Failure}.
+     */
+    public Result<NoValue> toResult() {
+        return toResult(NoValue.instance());
+    }
+
+    /**
+     * Returns a {@code Result} holding a snapshot of the reasons added so far, successful with the given value unless
+     * any of them is a {@link Failure}.
+     */
+    public <T> Result<T> toResult(T value) {
+        if (Objects.isNull(value)) {
+            throw new NullPointerException("Value must be defined.");
+        }
+        final Node snapshot = head.get();
+        if (Objects.isNull(snapshot)) {
+            return failed ? Result.create(false, null, null) : Result.create(true, value, null);
+        }
+        final Reason[] elements = new Reason[snapshot.size];
+        Node node = snapshot;
+        for (int i = snapshot.size - 1; i >= 0; i--) {
+            elements[i] = node.reason;
+            node = node.next;
+        }
+        final boolean isSuccessful = !failed && snapshot.failureCount == 0;
+        return Result.create(isSuccessful, isSuccessful ? value : null, new Reasons(elements, elements.length));
+    }
+}
@@ -0,0 +1,87 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.Success;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * Unmodifiable, live {@link java.util.List} view over the reasons of a result.
+ * <p>
+ * The view reads the current storage of the result on every access, so it reflects reasons added after it was
+ * created, including after the storage was copied because it was shared. Like the results themselves, the view is
+ * not thread-safe: it must not be read while the result is being modified.
+ */
+abstract class ReasonView<R extends Reason> extends AbstractList<R> implements RandomAccess {
+
+    static ReasonView<Reason> all(Supplier<Reasons> source) {
+        return new ReasonView<Reason>(source) {
+            @Override
+            Reason get(Reasons reasons, int index) {
+                return reasons.get(index);
+            }
+
+            @Override
+            int size(Reasons reasons) {
+                return reasons.size();
+            }
+        };
+    }
+
+    static ReasonView<Failure> failures(Supplier<Reasons> source) {
+        return new ReasonView<Failure>(source) {
+            @Override
+            Failure get(Reasons reasons, int index) {
+                return reasons.failureAt(index);
+            }
+
+            @Override
+            int size(Reasons reasons) {
+                return reasons.failureCount();
+            }
+        };
+    }
+
+    static ReasonView<Success> successes(Supplier<Reasons> source) {
+        return new ReasonView<Success>(source) {
+            @Override
+            Success get(Reasons reasons, int index) {
+                return reasons.successAt(index);
+            }
+
+            @Override
+            int size(Reasons reasons) {
+                return reasons.successCount();
+            }
+        };
+    }
+
+    private final Supplier<Reasons> source;
+
+    private ReasonView(Supplier<Reasons> source) {
+        this.source = source;
+    }
+
+    abstract R get(Reasons reasons, int index);
+
+    abstract int size(Reasons reasons);
+
+    @Override
+    public R get(int index) {
+        final Reasons reasons = source.get();
+        final int size = Objects.isNull(reasons) ? 0 : size(reasons);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return get(reasons, index);
+    }
+
+    @Override
+    public int size() {
+        final Reasons reasons = source.get();
+        return Objects.isNull(reasons) ? 0 : size(reasons);
+    }
+}
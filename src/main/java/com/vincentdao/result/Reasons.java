@@ -0,0 +1,450 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.CodedFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.ReasonCapacity;
+import com.vincentdao.result.trace.Success;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Insertion-ordered storage of the reasons of a result.
+ * <p>
+ * Shared by {@link Result} and the primitive-specialized results. Null checks are the responsibility of the caller.
+ * <p>
+ * Reasons are indexed by kind as they are added: the {@link Failure}s and {@link Success}es are also kept in their
+ * own arrays, along with the distinct concrete {@link Failure} classes and the distinct {@link FailureCode}s.
+ * Counting, the first failure, type and code lookups therefore do not scan all reasons.
+ * <p>
+ * An instance can be shared between results derived from one another (see {@link #share()}). A shared instance must
+ * not be modified: holders copy it with {@link #Reasons(Reasons)} before adding to it.
+ * <p>
+ * A bounded {@link ReasonCapacity} keeps at most {@code limit} reasons. Evicting ({@code KEEP_LAST}) or replacing
+ * ({@code SAMPLE}) reasons overwrites slots in place: {@code KEEP_LAST} uses the array as a ring starting at
+ * {@code head}. The storage is then marked stale, and put back in order and re-indexed by {@link #refresh()} before
+ * it is next read, so a storm of additions does not pay for indexing.
+ */
+final class Reasons {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Failure[] NO_FAILURES = new Failure[0];
+    private static final Success[] NO_SUCCESSES = new Success[0];
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+    private static final FailureCode[] NO_CODES = new FailureCode[0];
+
+    private Reason[] elements;
+    private int size;
+    private Failure[] failures = NO_FAILURES;
+    private int failureCount;
+    private Success[] successes = NO_SUCCESSES;
+    private int successCount;
+    private Class<?>[] failureTypes = NO_TYPES;
+    private int failureTypeCount;
+    private FailureCode[] failureCodes = NO_CODES;
+    private int failureCodeCount;
+    private boolean shared;
+    /**
+     * The bounded capacity, {@code null} if unbounded.
+     */
+    private ReasonCapacity capacity;
+    private long seen;
+    private long dropped;
+    private int head;
+    private boolean stale;
+
+    Reasons() {
+        this.elements = new Reason[INITIAL_CAPACITY];
+    }
+
+    Reasons(ReasonCapacity capacity) {
+        this();
+        this.capacity = capacity.isBounded() ? capacity : null;
+    }
+
+    /**
+     * Takes ownership of the given array, holding {@code size} reasons.
+     */
+    Reasons(Reason[] elements, int size) {
+        this.elements = elements;
+        for (int i = 0; i < size; i++) {
+            index(elements[i]);
+        }
+        this.size = size;
+    }
+
+    Reasons(Reasons source) {
+        source.refresh();
+        this.capacity = source.capacity;
+        this.seen = source.seen;
+        this.dropped = source.dropped;
+        this.elements = Arrays.copyOf(source.elements, Math.max(source.size, INITIAL_CAPACITY));
+        this.size = source.size;
+        this.failures = source.failureCount == 0 ? NO_FAILURES : Arrays.copyOf(source.failures, source.failureCount);
+        this.failureCount = source.failureCount;
+        this.successes = source.successCount == 0
+                ? NO_SUCCESSES
+                : Arrays.copyOf(source.successes, source.successCount);
+        this.successCount = source.successCount;
+        this.failureTypes = source.failureTypeCount == 0
+                ? NO_TYPES
+                : Arrays.copyOf(source.failureTypes, source.failureTypeCount);
+        this.failureTypeCount = source.failureTypeCount;
+        this.failureCodes = source.failureCodeCount == 0
+                ? NO_CODES
+                : Arrays.copyOf(source.failureCodes, source.failureCodeCount);
+        this.failureCodeCount = source.failureCodeCount;
+    }
+
+    /**
+     * Marks this instance as shared and returns it.
+     */
+    Reasons share() {
+        refresh();
+        shared = true;
+        return this;
+    }
+
+    /**
+     * Returns a new instance with the given capacity, holding the reasons of this instance that fit in it.
+     */
+    Reasons withCapacity(ReasonCapacity capacity) {
+        refresh();
+        final Reasons bounded = new Reasons(capacity);
+        bounded.dropped = dropped;
+        for (int i = 0; i < size; i++) {
+            bounded.add(elements[i]);
+        }
+        return bounded;
+    }
+
+    long dropped() {
+        return dropped;
+    }
+
+    boolean isShared() {
+        return shared;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Reason get(int index) {
+        refresh();
+        return elements[index];
+    }
+
+    void add(Reason reason) {
+        if (Objects.nonNull(capacity)) {
+            seen++;
+            if (size == capacity.limit()) {
+                overflow(reason);
+                return;
+            }
+        }
+        if (size == elements.length) {
+            final int length = grow(elements.length, size + 1);
+            elements = Arrays.copyOf(elements, Objects.isNull(capacity) ? length : Math.min(length, capacity.limit()));
+        }
+        elements[size++] = reason;
+        index(reason);
+    }
+
+    void addAll(Collection<? extends Reason> reasons) {
+        if (Objects.nonNull(capacity)) {
+            reasons.forEach(this::add);
+            return;
+        }
+        if (size + reasons.size() > elements.length) {
+            elements = Arrays.copyOf(elements, grow(elements.length, size + reasons.size()));
+        }
+        for (Reason reason : reasons) {
+            elements[size++] = reason;
+            index(reason);
+        }
+    }
+
+    void addAll(Reasons reasons) {
+        reasons.refresh();
+        dropped += reasons.dropped;
+        if (Objects.nonNull(capacity)) {
+            for (int i = 0; i < reasons.size; i++) {
+                add(reasons.elements[i]);
+            }
+            return;
+        }
+        if (size + reasons.size > elements.length) {
+            elements = Arrays.copyOf(elements, grow(elements.length, size + reasons.size));
+        }
+        System.arraycopy(reasons.elements, 0, elements, size, reasons.size);
+        size += reasons.size;
+        if (reasons.failureCount > 0) {
+            if (failureCount + reasons.failureCount > failures.length) {
+                failures = Arrays.copyOf(failures, grow(failures.length, failureCount + reasons.failureCount));
+            }
+            System.arraycopy(reasons.failures, 0, failures, failureCount, reasons.failureCount);
+            failureCount += reasons.failureCount;
+            for (int i = 0; i < reasons.failureTypeCount; i++) {
+                indexFailureType(reasons.failureTypes[i]);
+            }
+            for (int i = 0; i < reasons.failureCodeCount; i++) {
+                indexFailureCode(reasons.failureCodes[i]);
+            }
+        }
+        if (reasons.successCount > 0) {
+            if (successCount + reasons.successCount > successes.length) {
+                successes = Arrays.copyOf(successes, grow(successes.length, successCount + reasons.successCount));
+            }
+            System.arraycopy(reasons.successes, 0, successes, successCount, reasons.successCount);
+            successCount += reasons.successCount;
+        }
+    }
+
+    private void overflow(Reason reason) {
+        dropped++;
+        switch (capacity.overflow()) {
+            case KEEP_LAST:
+                elements[head] = reason;
+                head = (head + 1) % size;
+                stale = true;
+                break;
+            case SAMPLE:
+                final long slot = ThreadLocalRandom.current().nextLong(seen);
+                if (slot < size) {
+                    elements[(int) slot] = reason;
+                    stale = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Puts the reasons back in order and rebuilds the indexes, if reasons were overwritten since the last call.
+     */
+    private void refresh() {
+        if (!stale) {
+            return;
+        }
+        if (head != 0) {
+            final Reason[] ordered = new Reason[elements.length];
+            System.arraycopy(elements, head, ordered, 0, size - head);
+            System.arraycopy(elements, 0, ordered, size - head, head);
+            elements = ordered;
+            head = 0;
+        }
+        Arrays.fill(failures, 0, failureCount, null);
+        Arrays.fill(successes, 0, successCount, null);
+        failureCount = 0;
+        successCount = 0;
+        failureTypeCount = 0;
+        failureCodeCount = 0;
+        for (int i = 0; i < size; i++) {
+            index(elements[i]);
+        }
+        stale = false;
+    }
+
+    private void index(Reason reason) {
+        if (reason instanceof Failure) {
+            if (failureCount == failures.length) {
+                failures = Arrays.copyOf(failures, grow(failures.length, failureCount + 1));
+            }
+            failures[failureCount++] = (Failure) reason;
+            indexFailureType(reason.getClass());
+            if (reason instanceof CodedFailure) {
+                indexFailureCode(((CodedFailure) reason).code());
+            }
+        }
+        if (reason instanceof Success) {
+            if (successCount == successes.length) {
+                successes = Arrays.copyOf(successes, grow(successes.length, successCount + 1));
+            }
+            successes[successCount++] = (Success) reason;
+        }
+    }
+
+    private void indexFailureType(Class<?> type) {
+        for (int i = 0; i < failureTypeCount; i++) {
+            if (failureTypes[i] == type) {
+                return;
+            }
+        }
+        if (failureTypeCount == failureTypes.length) {
+            failureTypes = Arrays.copyOf(failureTypes, grow(failureTypes.length, failureTypeCount + 1));
+        }
+        failureTypes[failureTypeCount++] = type;
+    }
+
+    private void indexFailureCode(FailureCode code) {
+        for (int i = 0; i < failureCodeCount; i++) {
+            if (failureCodes[i] == code) {
+                return;
+            }
+        }
+        if (failureCodeCount == failureCodes.length) {
+            failureCodes = Arrays.copyOf(failureCodes, grow(failureCodes.length, failureCodeCount + 1));
+        }
+        failureCodes[failureCodeCount++] = code;
+    }
+
+    private static int grow(int length, int minimum) {
+        return Math.max(minimum, Math.max(INITIAL_CAPACITY, length << 1));
+    }
+
+    /**
+     * Returns a new instance where each {@link Failure} is replaced by the result of the mapper.
+     */
+    Reasons mapFailures(Function<? super Failure, ? extends Failure> mapper) {
+        refresh();
+        final Reasons mapped = new Reasons();
+        mapped.capacity = capacity;
+        mapped.seen = seen;
+        mapped.dropped = dropped;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] instanceof Failure) {
+                final Failure failure = mapper.apply((Failure) elements[i]);
+                if (Objects.isNull(failure)) {
+                    throw new NullPointerException("Mapped failure must be defined.");
+                }
+                mapped.add(failure);
+            } else {
+                mapped.add(elements[i]);
+            }
+        }
+        return mapped;
+    }
+
+    List<Reason> toList() {
+        refresh();
+        return listOf(elements, size);
+    }
+
+    List<Reason> filtered(Predicate<? super Reason> filter) {
+        refresh();
+        final List<Reason> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (filter.test(elements[i])) {
+                list.add(elements[i]);
+            }
+        }
+        return list;
+    }
+
+    List<Failure> failures() {
+        refresh();
+        return listOf(failures, failureCount);
+    }
+
+    List<Success> successes() {
+        refresh();
+        return listOf(successes, successCount);
+    }
+
+    private static <R extends Reason> List<R> listOf(R[] array, int count) {
+        final List<R> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(array[i]);
+        }
+        return list;
+    }
+
+    int failureCount() {
+        refresh();
+        return failureCount;
+    }
+
+    int successCount() {
+        refresh();
+        return successCount;
+    }
+
+    Failure failureAt(int index) {
+        refresh();
+        return failures[index];
+    }
+
+    Success successAt(int index) {
+        refresh();
+        return successes[index];
+    }
+
+    void forEach(Consumer<? super Reason> action) {
+        refresh();
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    void forEachFailure(Consumer<? super Failure> action) {
+        refresh();
+        for (int i = 0; i < failureCount; i++) {
+            action.accept(failures[i]);
+        }
+    }
+
+    void forEachSuccess(Consumer<? super Success> action) {
+        refresh();
+        for (int i = 0; i < successCount; i++) {
+            action.accept(successes[i]);
+        }
+    }
+
+    /**
+     * Returns a stream over the reasons added so far, iterating the storage directly. Unless a bounded capacity
+     * overwrites reasons, reasons are only ever appended past the current size, so reasons added afterwards are not
+     * seen.
+     */
+    Stream<Reason> stream() {
+        refresh();
+        return Arrays.stream(elements, 0, size);
+    }
+
+    Stream<Failure> failureStream() {
+        refresh();
+        return Arrays.stream(failures, 0, failureCount);
+    }
+
+    /**
+     * Returns the first {@link Failure} added, {@code null} if none.
+     */
+    Failure firstFailure() {
+        refresh();
+        return failureCount == 0 ? null : failures[0];
+    }
+
+    /**
+     * Returns whether a {@link Failure} of the given type, or of one of its subtypes, was added. Only the distinct
+     * concrete failure classes are checked.
+     */
+    boolean hasFailure(Class<? extends Failure> type) {
+        refresh();
+        for (int i = 0; i < failureTypeCount; i++) {
+            if (type.isAssignableFrom(failureTypes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean hasFailureCode(FailureCode code) {
+        refresh();
+        for (int i = 0; i < failureCodeCount; i++) {
+            if (failureCodes[i] == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,15 +2,26 @@ package com.vincentdao.result;
 
 import com.vincentdao.result.trace.DefaultFailure;
 import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionClassifier;
 import com.vincentdao.result.trace.ExceptionalFailure;
 import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.LazyFailure;
+import com.vincentdao.result.trace.LazySuccess;
 import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.ReasonCapacity;
 import com.vincentdao.result.trace.Success;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Result pattern inspired by <a href="https://github.com/altmann/FluentResults">FluentResults</a>.
@@ -49,6 +60,17 @@ public final class Result<T> {
             return new Result<>(true, NoValue.instance());
         }
 
+        /**
+         * Returns the canonical successful {@code Result<NoValue>}, shared by all callers.
+         * <p>
+         * Unlike {@link #withNoValue()}, this does not allocate. The shared instance is never modified: adding a
+         * reason to it returns a new {@code Result} holding that reason instead, so the returned value of the
+         * {@code with*} methods must always be used.
+         */
+        public Result<NoValue> withSharedNoValue() {
+            return SHARED_NO_VALUE;
+        }
+
         public Result<T> withValue(T value) {
             if (Objects.isNull(value)) {
                 throw new NullPointerException(NULL_VALUE_MESSAGE);
@@ -57,22 +79,166 @@ public final class Result<T> {
         }
     }
 
+    /**
+     * The builder holds no state, so a single instance is shared for every value type.
+     */
+    private static final AbstractSuccessfulResult<?> SUCCESSFUL = new AbstractSuccessfulResult<>();
+
+    private static final Result<NoValue> SHARED_NO_VALUE = new Result<>(true, NoValue.instance(), null, true);
+
+    @SuppressWarnings("unchecked")
     public static <T> AbstractSuccessfulResult<T> successful() {
-        return new AbstractSuccessfulResult<>();
+        return (AbstractSuccessfulResult<T>) SUCCESSFUL;
     }
 
     public static <T> Result<T> failed() {
         return new Result<>(false, null);
     }
 
+    /**
+     * Calls the {@link Callable}, returning a successful {@code Result} holding its value, or a failed one holding an
+     * {@link ExceptionalFailure} of the exception thrown.
+     */
+    public static <T> Result<T> of(Callable<? extends T> callable) {
+        return of(callable, ExceptionClassifier.defaults());
+    }
+
+    /**
+     * Calls the {@link Callable}, returning a successful {@code Result} holding its value, or a failed one holding the
+     * {@link Failure} the classifier maps the exception thrown to.
+     * <p>
+     * A {@code null} value makes the {@code Result} failed. If the exception is an {@link InterruptedException}, the
+     * interrupt status of the current thread is restored.
+     */
+    public static <T> Result<T> of(Callable<? extends T> callable, ExceptionClassifier classifier) {
+        if (Objects.isNull(callable)) {
+            throw new NullPointerException("Callable must be defined.");
+        }
+        if (Objects.isNull(classifier)) {
+            throw new NullPointerException("Exception classifier must be defined.");
+        }
+        final T value;
+        try {
+            value = callable.call();
+        } catch (Exception e) {
+            return failedWith(e, classifier);
+        }
+        if (Objects.isNull(value)) {
+            return Result.<T>failed().withFailureMessage("Called value must be defined.");
+        }
+        return new Result<>(true, value);
+    }
+
+    /**
+     * Runs the {@link Runnable}, returning a successful {@code Result<NoValue>}, or a failed one holding an
+     * {@link ExceptionalFailure} of the exception thrown.
+     */
+    public static Result<NoValue> ofRunnable(Runnable runnable) {
+        return ofRunnable(runnable, ExceptionClassifier.defaults());
+    }
+
+    /**
+     * Runs the {@link Runnable}, returning a successful {@code Result<NoValue>}, or a failed one holding the
+     * {@link Failure} the classifier maps the exception thrown to.
+     */
+    public static Result<NoValue> ofRunnable(Runnable runnable, ExceptionClassifier classifier) {
+        if (Objects.isNull(runnable)) {
+            throw new NullPointerException("Runnable must be defined.");
+        }
+        if (Objects.isNull(classifier)) {
+            throw new NullPointerException("Exception classifier must be defined.");
+        }
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            return failedWith(e, classifier);
+        }
+        return new Result<>(true, NoValue.instance());
+    }
+
+    private static <T> Result<T> failedWith(Exception exception, ExceptionClassifier classifier) {
+        if (exception instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return Result.<T>failed().addFailure(classifier.classify(exception));
+    }
+
     private boolean isSuccessful;
     private final T value;
-    private final Collection<Reason> reasons;
+    /**
+     * Allocated on the first added reason, as most results never get one.
+     */
+    private Reasons reasons;
+
+    /**
+     * Whether this instance is shared by all callers and never modified, such as {@link #SHARED_NO_VALUE}.
+     */
+    private final boolean shared;
 
     private Result(boolean isSuccessful, T value) {
+        this(isSuccessful, value, null, false);
+    }
+
+    private Result(boolean isSuccessful, T value, Reasons reasons) {
+        this(isSuccessful, value, reasons, false);
+    }
+
+    private Result(boolean isSuccessful, T value, Reasons reasons, boolean shared) {
         this.isSuccessful = isSuccessful;
         this.value = value;
-        this.reasons = new ArrayList<>();
+        this.reasons = reasons;
+        this.shared = shared;
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            listener.onCreated(isSuccessful);
+        }
+    }
+
+    /**
+     * Creates a {@code Result} owning the given reasons, for conversions from other result types.
+     */
+    static <T> Result<T> create(boolean isSuccessful, T value, Reasons reasons) {
+        return new Result<>(isSuccessful, value, reasons);
+    }
+
+    /**
+     * Creates a failed {@code Result} holding the failure, to be created once and returned to every caller, for
+     * example to reject calls without allocating.
+     * <p>
+     * As with {@link AbstractSuccessfulResult#withSharedNoValue()}, the returned instance is never modified: adding a
+     * reason to it returns a new {@code Result} holding its failure and that reason instead, so the returned value of
+     * the {@code with*} methods must always be used. The failure must not be modified either, so it should be
+     * immutable, such as a {@link com.vincentdao.result.trace.CodedFailure}.
+     */
+    public static <T> Result<T> sharedFailed(Failure failure) {
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Failure trace must be defined.");
+        }
+        final Reasons reasons = new Reasons();
+        reasons.add(failure);
+        return new Result<>(false, null, reasons.share(), true);
+    }
+
+    /**
+     * Returns the value without the status checks of {@link #value()}, {@code null} for a {@code Result} created as
+     * failed.
+     */
+    T rawValue() {
+        return value;
+    }
+
+    /**
+     * Returns the reasons without marking them as shared, {@code null} if none were added. Must not be modified.
+     */
+    Reasons storedReasons() {
+        return reasons;
+    }
+
+    /**
+     * Returns the reasons marked as shared, for deriving a new result from this one without copying them.
+     */
+    Reasons shareReasons() {
+        return Objects.isNull(reasons) ? null : reasons.share();
     }
 
     public boolean isSuccessful() {
@@ -93,19 +259,149 @@ public final class Result<T> {
         return value;
     }
 
-    public Result<T> withFailureMessage(String message) {
-        reasons.add(new DefaultFailure(message));
-        changeSuccessStatusWhenAddingFailure();
+    /**
+     * Applies the mapper to the value of a successful {@code Result}, returning a new {@code Result} that shares the
+     * reasons of this one.
+     * <p>
+     * A failed {@code Result} gives a new failed {@code Result} sharing its reasons, without applying the mapper.
+     */
+    public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (!isSuccessful) {
+            return new Result<>(false, null, shareReasons());
+        }
+        final U mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped value must be defined.");
+        }
+        return new Result<>(true, mapped, shareReasons());
+    }
+
+    /**
+     * Applies the mapper to the value of a successful {@code Result}, returning the status and value of the mapped
+     * {@code Result} with the reasons of this one followed by its own.
+     * <p>
+     * A failed {@code Result} gives a new failed {@code Result} sharing its reasons, without applying the mapper.
+     */
+    public <U> Result<U> flatMap(Function<? super T, ? extends Result<U>> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (!isSuccessful) {
+            return new Result<>(false, null, shareReasons());
+        }
+        final Result<U> mapped = mapper.apply(value);
+        if (Objects.isNull(mapped)) {
+            throw new NullPointerException("Mapped result must be defined.");
+        }
+        if (Objects.isNull(reasons) || reasons.size() == 0) {
+            return mapped;
+        }
+        if (Objects.isNull(mapped.reasons) || mapped.reasons.size() == 0) {
+            return new Result<>(mapped.isSuccessful, mapped.value, shareReasons());
+        }
+        final Reasons merged = new Reasons(reasons);
+        merged.addAll(mapped.reasons);
+        return new Result<>(mapped.isSuccessful, mapped.value, merged);
+    }
+
+    /**
+     * Replaces each {@link Failure} of a failed {@code Result} by the result of the mapper, returning a new
+     * {@code Result}.
+     * <p>
+     * A successful {@code Result} is returned as is, without applying the mapper.
+     */
+    public Result<T> mapFailure(Function<? super Failure, ? extends Failure> mapper) {
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        if (isSuccessful || Objects.isNull(reasons)) {
+            return this;
+        }
+        return new Result<>(false, value, reasons.mapFailures(mapper));
+    }
+
+    /**
+     * Turns a failed {@code Result} into a successful one holding the value computed from its failures. The new
+     * {@code Result} shares the reasons of this one, failures included.
+     * <p>
+     * A successful {@code Result} is returned as is, without applying the recovery.
+     */
+    public Result<T> recover(Function<? super Collection<Failure>, ? extends T> recovery) {
+        if (Objects.isNull(recovery)) {
+            throw new NullPointerException("Recovery must be defined.");
+        }
+        if (isSuccessful) {
+            return this;
+        }
+        final T recovered = recovery.apply(failures());
+        if (Objects.isNull(recovered)) {
+            throw new NullPointerException("Recovered value must be defined.");
+        }
+        return new Result<>(true, recovered, shareReasons());
+    }
+
+    /**
+     * Reduces this {@code Result} to a single value, applying {@code onSuccess} to the value of a successful
+     * {@code Result} or {@code onFailure} to the failures of a failed one.
+     */
+    public <U> U fold(Function<? super T, ? extends U> onSuccess,
+                      Function<? super Collection<Failure>, ? extends U> onFailure) {
+        if (Objects.isNull(onSuccess) || Objects.isNull(onFailure)) {
+            throw new NullPointerException("Fold functions must be defined.");
+        }
+        if (isSuccessful) {
+            return onSuccess.apply(value);
+        }
+        return onFailure.apply(failures());
+    }
+
+    public Result<T> ifSuccess(Consumer<? super T> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (isSuccessful) {
+            action.accept(value);
+        }
         return this;
     }
 
+    public Result<T> ifFailure(Consumer<? super Collection<Failure>> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (!isSuccessful) {
+            action.accept(failures());
+        }
+        return this;
+    }
+
+    public Result<T> withFailureMessage(String message) {
+        return addFailure(new DefaultFailure(message));
+    }
+
+    /**
+     * Adds a {@link LazyFailure}, whose message is only formatted when first read.
+     */
+    public Result<T> withFailureMessage(String template, Object... args) {
+        return addFailure(new LazyFailure(template, args));
+    }
+
+    /**
+     * Adds a {@link LazyFailure}, whose message is only supplied when first read. Named apart from
+     * {@code withFailureMessage(String)} so that {@code withFailureMessage(null)} is not ambiguous.
+     */
+    public Result<T> withFailureMessageLazy(Supplier<String> message) {
+        return addFailure(new LazyFailure(message));
+    }
+
     public Result<T> withFailure(Failure failure) {
         if (Objects.isNull(failure)) {
             throw new NullPointerException("Failure trace must be defined.");
         }
-        reasons.add(failure);
-        changeSuccessStatusWhenAddingFailure();
-        return this;
+        return addFailure(failure);
     }
 
     public Result<T> withFailures(Collection<Failure> failures) {
@@ -115,37 +411,89 @@ public final class Result<T> {
         if (failures.stream().anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException("Failure list contains null.");
         }
-        reasons.addAll(failures);
-        changeSuccessStatusWhenAddingFailure();
-        return this;
+        final Result<T> target = writable();
+        target.addAllReasons(failures);
+        target.changeSuccessStatusWhenAddingFailure();
+        return target;
+    }
+
+    /**
+     * Adds the shared {@link com.vincentdao.result.trace.CodedFailure} of the code.
+     */
+    public Result<T> withFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        return addFailure(code.failure());
     }
 
     public Result<T> withExceptionalFailure(Exception exception) {
         if (Objects.isNull(exception)) {
             throw new NullPointerException("Exceptional failure must be defined.");
         }
-        reasons.add(new ExceptionalFailure(exception));
-        changeSuccessStatusWhenAddingFailure();
-        return this;
+        return addFailure(new ExceptionalFailure(exception));
+    }
+
+    /**
+     * Adds an {@link ExceptionalFailure} recording only the exception type and message, without constructing the
+     * exception or capturing its stack trace (see {@link ExceptionalFailure#of(Class, String)}).
+     */
+    public Result<T> withExceptionalFailure(Class<? extends Exception> type, String message) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Exception type must be defined.");
+        }
+        return addFailure(ExceptionalFailure.of(type, message));
+    }
+
+    private Result<T> addFailure(Failure failure) {
+        final Result<T> target = writable();
+        target.addReason(failure);
+        target.changeSuccessStatusWhenAddingFailure();
+        return target;
     }
 
     private void changeSuccessStatusWhenAddingFailure() {
         if (isSuccessful) {
             isSuccessful = false;
+            final ResultListener listener = ResultListeners.active;
+            if (Objects.nonNull(listener)) {
+                listener.onFailed();
+            }
         }
     }
 
     public Result<T> withSuccessMessage(String message) {
-        reasons.add(new DefaultSuccess(message));
-        return this;
+        final Result<T> target = writable();
+        target.addReason(new DefaultSuccess(message));
+        return target;
+    }
+
+    /**
+     * Adds a {@link LazySuccess}, whose message is only formatted when first read.
+     */
+    public Result<T> withSuccessMessage(String template, Object... args) {
+        final Result<T> target = writable();
+        target.addReason(new LazySuccess(template, args));
+        return target;
+    }
+
+    /**
+     * Adds a {@link LazySuccess}, whose message is only supplied when first read. Named apart from
+     * {@code withSuccessMessage(String)} so that {@code withSuccessMessage(null)} is not ambiguous.
+     */
+    public Result<T> withSuccessMessageLazy(Supplier<String> message) {
+        final Result<T> target = writable();
+        target.addReason(new LazySuccess(message));
+        return target;
     }
 
     public Result<T> withSuccess(Success success) {
         if (Objects.isNull(success)) {
             throw new NullPointerException("Success must be defined.");
         }
-        reasons.add(success);
-        return this;
+        final Result<T> target = writable();
+        target.addReason(success);
+        return target;
     }
 
     public Result<T> withSuccesses(Collection<Success> successes) {
@@ -155,16 +503,18 @@ public final class Result<T> {
         if (successes.stream().anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException("Success list contains null.");
         }
-        reasons.addAll(successes);
-        return this;
+        final Result<T> target = writable();
+        target.addAllReasons(successes);
+        return target;
     }
 
     public Result<T> withReason(Reason reason) {
         if (Objects.isNull(reason)) {
             throw new NullPointerException("Reason must be defined.");
         }
-        reasons.add(reason);
-        return this;
+        final Result<T> target = writable();
+        target.addReason(reason);
+        return target;
     }
 
     public Result<T> withReasons(Collection<Reason> reasons) {
@@ -174,29 +524,200 @@ public final class Result<T> {
         if (reasons.stream().anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException("Reason list contains null.");
         }
-        this.reasons.addAll(reasons);
+        final Result<T> target = writable();
+        target.addAllReasons(reasons);
+        return target;
+    }
+
+    /**
+     * Bounds the reasons stored to the capacity, applying its overflow policy to the reasons already added and to those
+     * added afterwards. The status is unaffected by dropped reasons, which are counted by
+     * {@link #droppedReasonCount()}.
+     */
+    public Result<T> withReasonCapacity(ReasonCapacity capacity) {
+        if (Objects.isNull(capacity)) {
+            throw new NullPointerException("Reason capacity must be defined.");
+        }
+        final Result<T> target = writable();
+        target.reasons = Objects.isNull(target.reasons) ? new Reasons(capacity) : target.reasons.withCapacity(capacity);
+        return target;
+    }
+
+    /**
+     * Returns the instance that reasons should be added to: a copy when this is a shared result, otherwise this
+     * instance.
+     */
+    private Result<T> writable() {
+        if (shared) {
+            return new Result<>(isSuccessful, value, shareReasons());
+        }
         return this;
     }
 
+    private void addReason(Reason reason) {
+        mutableReasons().add(reason);
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            listener.onReason(reason);
+        }
+    }
+
+    private void addAllReasons(Collection<? extends Reason> reasonsToAdd) {
+        if (reasonsToAdd.isEmpty()) {
+            return;
+        }
+        mutableReasons().addAll(reasonsToAdd);
+        final ResultListener listener = ResultListeners.active;
+        if (Objects.nonNull(listener)) {
+            reasonsToAdd.forEach(listener::onReason);
+        }
+    }
+
+    private Reasons mutableReasons() {
+        if (Objects.isNull(reasons)) {
+            reasons = new Reasons();
+        } else if (reasons.isShared()) {
+            reasons = new Reasons(reasons);
+        }
+        return reasons;
+    }
+
     public Collection<Reason> reasons() {
-        return new ArrayList<>(reasons);
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.toList();
     }
 
     public Collection<Reason> reasonsFiltered(Predicate<? super Reason> filter) {
-        return reasons.stream().filter(filter).collect(Collectors.toList());
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.filtered(filter);
     }
 
     public Collection<Failure> failures() {
-        return reasons.stream()
-                .filter(Failure.class::isInstance)
-                .map(Failure.class::cast)
-                .collect(Collectors.toList());
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.failures();
     }
 
     public Collection<Success> successes() {
-        return reasons.stream()
-                .filter(Success.class::isInstance)
-                .map(Success.class::cast)
-                .collect(Collectors.toList());
+        if (Objects.isNull(reasons)) {
+            return new ArrayList<>();
+        }
+        return reasons.successes();
+    }
+
+    public int failureCount() {
+        return Objects.isNull(reasons) ? 0 : reasons.failureCount();
+    }
+
+    public int successCount() {
+        return Objects.isNull(reasons) ? 0 : reasons.successCount();
+    }
+
+    /**
+     * Returns whether a {@link Failure} of the given type, or of one of its subtypes, was added.
+     */
+    public boolean hasFailure(Class<? extends Failure> type) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Failure type must be defined.");
+        }
+        return Objects.nonNull(reasons) && reasons.hasFailure(type);
+    }
+
+    /**
+     * Returns whether the {@link com.vincentdao.result.trace.CodedFailure} of the code was added.
+     */
+    public boolean hasFailureCode(FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        return Objects.nonNull(reasons) && reasons.hasFailureCode(code);
+    }
+
+    /**
+     * Returns the number of reasons dropped by a bounded {@link ReasonCapacity}, {@code 0} if unbounded.
+     */
+    public long droppedReasonCount() {
+        return Objects.isNull(reasons) ? 0 : reasons.dropped();
+    }
+
+    /**
+     * Returns the first {@link Failure} added, if any.
+     */
+    public Optional<Failure> firstFailure() {
+        return Objects.isNull(reasons) ? Optional.empty() : Optional.ofNullable(reasons.firstFailure());
+    }
+
+    /**
+     * Returns an unmodifiable view of the reasons, without copying them.
+     * <p>
+     * The view is live: it reflects reasons added to this {@code Result} afterwards. It must not be read while this
+     * {@code Result} is being modified.
+     */
+    public List<Reason> reasonsView() {
+        return ReasonView.all(() -> reasons);
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the {@link Failure} reasons, with the same contract as
+     * {@link #reasonsView()}.
+     */
+    public List<Failure> failuresView() {
+        return ReasonView.failures(() -> reasons);
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the {@link Success} reasons, with the same contract as
+     * {@link #reasonsView()}.
+     */
+    public List<Success> successesView() {
+        return ReasonView.successes(() -> reasons);
+    }
+
+    public void forEachReason(Consumer<? super Reason> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (Objects.nonNull(reasons)) {
+            reasons.forEach(action);
+        }
+    }
+
+    public void forEachFailure(Consumer<? super Failure> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (Objects.nonNull(reasons)) {
+            reasons.forEachFailure(action);
+        }
+    }
+
+    public void forEachSuccess(Consumer<? super Success> action) {
+        if (Objects.isNull(action)) {
+            throw new NullPointerException("Action must be defined.");
+        }
+        if (Objects.nonNull(reasons)) {
+            reasons.forEachSuccess(action);
+        }
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the reasons, iterating the storage directly. The stream covers the
+     * reasons added before this call.
+     */
+    public Stream<Reason> reasonStream() {
+        return Objects.isNull(reasons) ? Stream.empty() : reasons.stream();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the {@link Failure} reasons, with the same contract as
+     * {@link #reasonStream()}.
+     */
+    public Stream<Failure> failureStream() {
+        return Objects.isNull(reasons) ? Stream.empty() : reasons.failureStream();
     }
 }
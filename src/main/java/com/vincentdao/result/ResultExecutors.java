@@ -0,0 +1,42 @@
+package com.vincentdao.result;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link Executor}s for running the blocking work behind results, such as the suppliers of
+ * {@link AsyncResult#supplyAsync(java.util.function.Supplier, Executor)}.
+ * <p>
+ * The library is a multi-release JAR: on Java 21 and later, these executors run each task on a new virtual thread, so
+ * blocking tasks do not tie up platform threads. On earlier versions, they fall back to platform threads.
+ */
+public final class ResultExecutors {
+
+    private ResultExecutors() {
+    }
+
+    /**
+     * Returns whether the executors of this class run tasks on virtual threads.
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Returns the shared executor used when none is given: one virtual thread per task on Java 21 and later, otherwise
+     * {@link ForkJoinPool#commonPool()}. It does not need to be shut down.
+     */
+    public static Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Returns a new {@link ExecutorService} starting a thread per task: a virtual thread on Java 21 and later,
+     * otherwise a platform thread from a cached pool. It must be shut down by the caller.
+     */
+    public static ExecutorService newTaskExecutor() {
+        return Executors.newCachedThreadPool();
+    }
+}
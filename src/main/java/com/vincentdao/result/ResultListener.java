@@ -0,0 +1,31 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.Reason;
+
+/**
+ * Observes the outcomes of results, once registered through {@link ResultListeners#register(ResultListener)}.
+ * <p>
+ * Listeners are invoked synchronously, on the thread creating or modifying the result, so they must be fast and
+ * thread-safe. Exceptions thrown by a listener propagate to the caller of the {@code Result} operation.
+ */
+public interface ResultListener {
+
+    /**
+     * Invoked when a result ({@link Result}, {@link ImmutableResult} or a primitive result) is created, including
+     * results derived from others by operations such as {@link Result#map(java.util.function.Function)}.
+     */
+    default void onCreated(boolean successful) {
+    }
+
+    /**
+     * Invoked when a successful result becomes failed because a {@link com.vincentdao.result.trace.Failure} is added.
+     */
+    default void onFailed() {
+    }
+
+    /**
+     * Invoked for each reason added to a result.
+     */
+    default void onReason(Reason reason) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.Reason;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registers the {@link ResultListener}s notified by all results.
+ * <p>
+ * Instrumentation is opt-in: while no listener is registered, results only check a single field for {@code null}.
+ */
+public final class ResultListeners {
+
+    private static final CopyOnWriteArrayList<ResultListener> REGISTERED = new CopyOnWriteArrayList<>();
+
+    /**
+     * The listener notified by results: {@code null} if none is registered, the registered listener if there is only
+     * one, otherwise a listener notifying all of them.
+     */
+    static volatile ResultListener active;
+
+    private ResultListeners() {
+    }
+
+    public static void register(ResultListener listener) {
+        if (Objects.isNull(listener)) {
+            throw new NullPointerException("Listener must be defined.");
+        }
+        synchronized (REGISTERED) {
+            REGISTERED.add(listener);
+            update();
+        }
+    }
+
+    /**
+     * Unregisters the listener, returning whether it was registered.
+     */
+    public static boolean unregister(ResultListener listener) {
+        synchronized (REGISTERED) {
+            final boolean removed = REGISTERED.remove(listener);
+            update();
+            return removed;
+        }
+    }
+
+    private static void update() {
+        switch (REGISTERED.size()) {
+            case 0:
+                active = null;
+                break;
+            case 1:
+                active = REGISTERED.get(0);
+                break;
+            default:
+                active = new CompositeListener(REGISTERED.toArray(new ResultListener[0]));
+                break;
+        }
+    }
+
+    private static final class CompositeListener implements ResultListener {
+
+        private final ResultListener[] listeners;
+
+        private CompositeListener(ResultListener[] listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void onCreated(boolean successful) {
+            for (ResultListener listener : listeners) {
+                listener.onCreated(successful);
+            }
+        }
+
+        @Override
+        public void onFailed() {
+            for (ResultListener listener : listeners) {
+                listener.onFailed();
+            }
+        }
+
+        @Override
+        public void onReason(Reason reason) {
+            for (ResultListener listener : listeners) {
+                listener.onReason(reason);
+            }
+        }
+    }
+}
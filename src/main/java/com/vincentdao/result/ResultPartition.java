@@ -0,0 +1,40 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.Failure;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The values of the successful results and the failures of the failed results of a stream, collected by
+ * {@link Results#partitioning()}.
+ *
+ * @param <T> The type of value that the results hold.
+ */
+public final class ResultPartition<T> {
+
+    private final List<T> values;
+    private final List<Failure> failures;
+    private final int failedCount;
+
+    ResultPartition(List<T> values, List<Failure> failures, int failedCount) {
+        this.values = Collections.unmodifiableList(values);
+        this.failures = Collections.unmodifiableList(failures);
+        this.failedCount = failedCount;
+    }
+
+    public List<T> values() {
+        return values;
+    }
+
+    public List<Failure> failures() {
+        return failures;
+    }
+
+    public int successfulCount() {
+        return values.size();
+    }
+
+    public int failedCount() {
+        return failedCount;
+    }
+}
@@ -0,0 +1,80 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.Failure;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s aggregating streams of {@link Result}s.
+ * <p>
+ * The collectors read the reasons straight from the storage of each {@code Result} instead of copying them through
+ * {@link Result#reasons()}, and combine partial containers without contention, so they can be used with parallel
+ * streams. Encounter order is preserved for both values and reasons.
+ */
+public final class Results {
+
+    private Results() {
+    }
+
+    /**
+     * Returns a {@link Collector} merging the results into a {@code Result} holding their values in encounter order.
+     * The {@code Result} is failed if any of the results failed, and holds the reasons of all of them.
+     */
+    public static <T> Collector<Result<T>, ?, Result<List<T>>> toListResult() {
+        return Collector.of(
+                ListResultAccumulator<T>::new,
+                ListResultAccumulator::add,
+                ListResultAccumulator::combine,
+                ListResultAccumulator::toResult);
+    }
+
+    /**
+     * Returns a {@link Collector} splitting the results in a single pass into the values of the successful ones and
+     * the failures of the failed ones.
+     */
+    public static <T> Collector<Result<T>, ?, ResultPartition<T>> partitioning() {
+        return Collector.of(
+                PartitionAccumulator<T>::new,
+                PartitionAccumulator::add,
+                PartitionAccumulator::combine,
+                PartitionAccumulator::toPartition);
+    }
+
+    private static final class PartitionAccumulator<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private final List<Failure> failures = new ArrayList<>();
+        private int failedCount;
+
+        void add(Result<T> result) {
+            if (Objects.isNull(result)) {
+                throw new NullPointerException("Result must be defined.");
+            }
+            if (result.isSuccessful()) {
+                values.add(result.rawValue());
+                return;
+            }
+            failedCount++;
+            final Reasons reasons = result.storedReasons();
+            if (Objects.isNull(reasons)) {
+                return;
+            }
+            for (int i = 0; i < reasons.failureCount(); i++) {
+                failures.add(reasons.failureAt(i));
+            }
+        }
+
+        PartitionAccumulator<T> combine(PartitionAccumulator<T> other) {
+            values.addAll(other.values);
+            failures.addAll(other.failures);
+            failedCount += other.failedCount;
+            return this;
+        }
+
+        ResultPartition<T> toPartition() {
+            return new ResultPartition<>(values, failures, failedCount);
+        }
+    }
+}
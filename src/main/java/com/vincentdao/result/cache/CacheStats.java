@@ -0,0 +1,57 @@
+package com.vincentdao.result.cache;
+
+/**
+ * A snapshot of the statistics of a {@link ResultCache}.
+ * <p>
+ * A call waiting for a load of the same key started by another call counts as a hit.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadFailureCount;
+    private final long evictionCount;
+
+    CacheStats(long hitCount, long missCount, long loadFailureCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadFailureCount = loadFailureCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of calls that loaded the result, which is also the number of loads.
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of loads that returned a failed result, or threw an exception.
+     */
+    public long loadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the share of calls that were hits, {@code 1} if there was no call.
+     */
+    public double hitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount + ", loadFailureCount="
+                + loadFailureCount + ", evictionCount=" + evictionCount + "}";
+    }
+}
@@ -0,0 +1,307 @@
+package com.vincentdao.result.cache;
+
+import com.vincentdao.result.ImmutableResult;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes a function returning {@link Result}s, caching failed results as well as successful ones (negative caching),
+ * so that a missing entity is not looked up again on every call.
+ * <p>
+ * Results are cached as {@link ImmutableResult}s, which can be handed to any number of callers without copying.
+ * Successful and failed results expire after their own time-to-live (see {@link Builder#withSuccessTtl(Duration)}
+ * and {@link Builder#withFailureTtl(Duration)}). An exception thrown by the function is cached as a failed result with
+ * an {@link ExceptionalFailure}.
+ * <p>
+ * Concurrent calls for a key being loaded wait for that load instead of calling the function again (single flight).
+ * Reads do not lock: once the cache holds more than its maximum size, entries are evicted in the order they were
+ * loaded, except entries read since they were last considered, which get a second chance (the CLOCK approximation of
+ * least-recently-used eviction).
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of value of the cached results.
+ */
+public final class ResultCache<K, V> {
+
+    public static final class Builder<K, V> {
+
+        private long maximumSize = Long.MAX_VALUE;
+        private long successTtlNanos = Long.MAX_VALUE;
+        private long failureTtlNanos = Long.MAX_VALUE;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of entries above which entries are evicted. Unbounded by default.
+         */
+        public Builder<K, V> withMaximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be positive.");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long successful results are cached. Unlimited by default.
+         */
+        public Builder<K, V> withSuccessTtl(Duration ttl) {
+            this.successTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets how long failed results are cached, {@link Duration#ZERO} for not caching them. Unlimited by default.
+         */
+        public Builder<K, V> withFailureTtl(Duration ttl) {
+            this.failureTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        Builder<K, V> withTicker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        private static long toNanos(Duration ttl) {
+            if (Objects.isNull(ttl)) {
+                throw new NullPointerException("Time-to-live must be defined.");
+            }
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("Time-to-live must not be negative.");
+            }
+            return ttl.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : ttl.toNanos();
+        }
+
+        public ResultCache<K, V> build(Function<? super K, ? extends Result<V>> loader) {
+            if (Objects.isNull(loader)) {
+                throw new NullPointerException("Loader must be defined.");
+            }
+            return new ResultCache<>(this, loader);
+        }
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * The expiry time of entries without time-to-live.
+     */
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final CompletableFuture<ImmutableResult<V>> future = new CompletableFuture<>();
+        /**
+         * Set before the future completes, so it is visible to readers of a completed future.
+         */
+        private long expiresAt;
+        private volatile boolean referenced;
+
+        private Node(K key) {
+            this.key = key;
+        }
+    }
+
+    private final Function<? super K, ? extends Result<V>> loader;
+    private final long maximumSize;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentMap<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+    /**
+     * The loaded nodes in load order, the clock hand being the head, only kept when the size is bounded. May hold
+     * nodes already removed from the map by expiry or invalidation, which are drained once they outnumber the entries.
+     */
+    private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicLong clockSize = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ResultCache(Builder<K, V> builder, Function<? super K, ? extends Result<V>> loader) {
+        this.loader = loader;
+        this.maximumSize = builder.maximumSize;
+        this.successTtlNanos = builder.successTtlNanos;
+        this.failureTtlNanos = builder.failureTtlNanos;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * Returns the cached result of the key, loading it with the function if absent or expired.
+     */
+    public ImmutableResult<V> get(K key) {
+        if (Objects.isNull(key)) {
+            throw new NullPointerException("Key must be defined.");
+        }
+        while (true) {
+            final Node<K, V> node = nodes.get(key);
+            if (Objects.isNull(node)) {
+                final Node<K, V> created = new Node<>(key);
+                if (Objects.isNull(nodes.putIfAbsent(key, created))) {
+                    misses.increment();
+                    return load(created);
+                }
+                continue;
+            }
+            if (!node.future.isDone()) {
+                hits.increment();
+                return node.future.join();
+            }
+            if (node.expiresAt == NEVER || ticker.getAsLong() - node.expiresAt < 0) {
+                hits.increment();
+                if (!node.referenced) {
+                    node.referenced = true;
+                }
+                return node.future.join();
+            }
+            if (nodes.remove(key, node)) {
+                evictIfNeeded();
+            }
+        }
+    }
+
+    private ImmutableResult<V> load(Node<K, V> node) {
+        ImmutableResult<V> loaded;
+        try {
+            final Result<V> result = loader.apply(node.key);
+            loaded = Objects.isNull(result)
+                    ? ImmutableResult.<V>failed().withFailureMessage("Loaded result must be defined.")
+                    : ImmutableResult.from(result);
+        } catch (Exception e) {
+            loaded = ImmutableResult.<V>failed().withExceptionalFailure(e);
+        } catch (Error e) {
+            nodes.remove(node.key, node);
+            node.future.completeExceptionally(e);
+            throw e;
+        }
+        if (loaded.isFailed()) {
+            loadFailures.increment();
+        }
+        final long ttl = loaded.isSuccessful() ? successTtlNanos : failureTtlNanos;
+        node.expiresAt = expiresAt(ttl);
+        node.future.complete(loaded);
+        if (ttl == 0L) {
+            nodes.remove(node.key, node);
+        } else if (maximumSize != Long.MAX_VALUE) {
+            clock.add(node);
+            clockSize.incrementAndGet();
+            evictIfNeeded();
+        }
+        return loaded;
+    }
+
+    private long expiresAt(long ttl) {
+        return ttl == Long.MAX_VALUE ? NEVER : ticker.getAsLong() + ttl;
+    }
+
+    /**
+     * Drains the removed nodes from the clock once they outnumber the entries, then moves the clock hand until the
+     * size is back to the maximum.
+     * <p>
+     * A thread finding the lock taken leaves the work to its holder, which checks again after releasing it.
+     */
+    private void evictIfNeeded() {
+        while (isOverCapacity() && evictionLock.tryLock()) {
+            try {
+                if (!evict()) {
+                    return;
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code false} if the clock ran out of nodes, the remaining entries still being loaded.
+     */
+    private boolean evict() {
+        if (hasStaleMajority()) {
+            for (Iterator<Node<K, V>> iterator = clock.iterator(); iterator.hasNext(); ) {
+                final Node<K, V> node = iterator.next();
+                if (nodes.get(node.key) != node) {
+                    iterator.remove();
+                    clockSize.decrementAndGet();
+                }
+            }
+        }
+        while (nodes.size() > maximumSize) {
+            final Node<K, V> candidate = clock.poll();
+            if (Objects.isNull(candidate)) {
+                return false;
+            }
+            clockSize.decrementAndGet();
+            if (nodes.get(candidate.key) != candidate) {
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                clock.add(candidate);
+                clockSize.incrementAndGet();
+            } else if (nodes.remove(candidate.key, candidate)) {
+                evictions.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean isOverCapacity() {
+        return nodes.size() > maximumSize || hasStaleMajority();
+    }
+
+    private boolean hasStaleMajority() {
+        return clockSize.get() > 2L * nodes.size();
+    }
+
+    /**
+     * Returns the number of nodes in the clock, including removed nodes not drained yet.
+     */
+    long clockSize() {
+        return clockSize.get();
+    }
+
+    public void invalidate(K key) {
+        if (Objects.isNull(key)) {
+            throw new NullPointerException("Key must be defined.");
+        }
+        if (Objects.nonNull(nodes.remove(key))) {
+            evictIfNeeded();
+        }
+    }
+
+    public void invalidateAll() {
+        nodes.clear();
+        evictIfNeeded();
+    }
+
+    /**
+     * Returns the number of entries, including those expired but not yet removed and those being loaded.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loadFailures.sum(), evictions.sum());
+    }
+}
@@ -0,0 +1,399 @@
+package com.vincentdao.result.circuit;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a failing dependency: wraps {@link Result}-returning calls and rejects them while too many of the
+ * recent ones failed.
+ * <p>
+ * The outcomes of the last calls are kept in a sliding window of fixed size (see
+ * {@link Builder#withSlidingWindowSize(int)}). Once the window holds at least the minimum number of calls and the
+ * share of failed ones reaches the threshold, the circuit breaker opens. An open circuit breaker rejects every call
+ * without running it, returning a failed {@code Result} holding a {@link CircuitOpenFailure}, or the
+ * {@link com.vincentdao.result.trace.CodedFailure} of {@link Builder#withRejectionCode(FailureCode)}. That
+ * {@code Result} is created once and shared by all rejected calls (see {@link Result#sharedFailed(Failure)}), so
+ * rejecting does not allocate.
+ * <p>
+ * After the open duration, the circuit breaker half-opens: a limited number of trial calls are let through. If all of
+ * them succeed, it closes again with an empty window; the first failed one opens it again.
+ * <p>
+ * A call counts as failed if its {@code Result} is failed and, when a predicate is set with
+ * {@link Builder#withCountedFailure(Predicate)}, holds a {@link Failure} matching it. An exception thrown by the call
+ * is returned as a failed {@code Result} with an {@link ExceptionalFailure}.
+ * <p>
+ * The outcome of a call only counts in the phase it was admitted in: a call admitted while closed that completes once
+ * the circuit breaker is half-open is not taken as a trial call, and a trial call completing once it opened again is
+ * ignored.
+ * <p>
+ * {@code CircuitBreaker} instances are safe to share between threads. Recording outcomes and changing state do not
+ * lock.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        /**
+         * Calls are run and their outcomes recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls are run, deciding whether to close or open again.
+         */
+        HALF_OPEN
+    }
+
+    public static final class Builder {
+
+        private double failureRateThreshold = 0.5;
+        private int slidingWindowSize = 100;
+        private int minimumCalls = 10;
+        private long openNanos = Duration.ofSeconds(30).toNanos();
+        private int halfOpenCalls = 3;
+        private Predicate<? super Failure> countedFailure;
+        private FailureCode rejectionCode;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the share of failed calls in the window, from {@code 0} exclusive to {@code 1}, at which the circuit
+         * breaker opens. {@code 0.5} by default.
+         */
+        public Builder withFailureRateThreshold(double threshold) {
+            if (!(threshold > 0.0 && threshold <= 1.0)) {
+                throw new IllegalArgumentException("Failure rate threshold must be above 0 and at most 1.");
+            }
+            this.failureRateThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of last calls the failure rate is computed on. {@code 100} by default.
+         */
+        public Builder withSlidingWindowSize(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Sliding window size must be positive.");
+            }
+            this.slidingWindowSize = size;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls the window must hold before the circuit breaker can open. {@code 10} by default.
+         */
+        public Builder withMinimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("Minimum calls must be positive.");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets how long the circuit breaker stays open before half-opening. 30 seconds by default.
+         */
+        public Builder withOpenDuration(Duration duration) {
+            if (Objects.isNull(duration)) {
+                throw new NullPointerException("Open duration must be defined.");
+            }
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("Open duration must not be negative.");
+            }
+            this.openNanos = duration.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0
+                    ? Long.MAX_VALUE
+                    : duration.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls that must succeed while half-open to close the circuit breaker. {@code 3} by
+         * default.
+         */
+        public Builder withHalfOpenCalls(int calls) {
+            if (calls < 1) {
+                throw new IllegalArgumentException("Half-open calls must be positive.");
+            }
+            this.halfOpenCalls = calls;
+            return this;
+        }
+
+        /**
+         * Counts a failed call as failed only if its {@code Result} holds a {@link Failure} matching the predicate,
+         * for example to ignore validation failures that do not tell the dependency is degraded. Other calls count as
+         * successful.
+         */
+        public Builder withCountedFailure(Predicate<? super Failure> predicate) {
+            if (Objects.isNull(predicate)) {
+                throw new NullPointerException("Failure predicate must be defined.");
+            }
+            this.countedFailure = predicate;
+            return this;
+        }
+
+        /**
+         * Counts a failed call as failed only if its {@code Result} holds a {@link Failure} of the given type, or of
+         * one of its subtypes.
+         */
+        public Builder withCountedFailure(Class<? extends Failure> type) {
+            if (Objects.isNull(type)) {
+                throw new NullPointerException("Failure type must be defined.");
+            }
+            return withCountedFailure(type::isInstance);
+        }
+
+        /**
+         * Rejects calls with the shared {@link com.vincentdao.result.trace.CodedFailure} of the code instead of a
+         * {@link CircuitOpenFailure}.
+         */
+        public Builder withRejectionCode(FailureCode code) {
+            if (Objects.isNull(code)) {
+                throw new NullPointerException("Failure code must be defined.");
+            }
+            this.rejectionCode = code;
+            return this;
+        }
+
+        Builder withTicker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            if (minimumCalls > slidingWindowSize) {
+                throw new IllegalArgumentException("Minimum calls must not exceed the sliding window size.");
+            }
+            return new CircuitBreaker(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The outcomes of the last calls, in a ring of slots written in turn. The counts are updated from the outcome each
+     * write replaces, so reading them does not scan the ring.
+     */
+    private static final class Window {
+
+        private static final int EMPTY = 0;
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        private void record(boolean failed) {
+            final int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            final int outcome = failed ? FAILURE : SUCCESS;
+            final int replaced = outcomes.getAndSet(slot, outcome);
+            if (replaced == EMPTY) {
+                calls.incrementAndGet();
+            }
+            if (failed && replaced != FAILURE) {
+                failures.incrementAndGet();
+            } else if (!failed && replaced == FAILURE) {
+                failures.decrementAndGet();
+            }
+        }
+
+        private double failureRate() {
+            final int callCount = calls.get();
+            return callCount == 0 ? 0.0 : (double) failures.get() / callCount;
+        }
+    }
+
+    /**
+     * A period in one state, replaced as a whole on each transition. A call records its outcome only if the phase it
+     * was admitted in is still the current one, so that a slow call does not count in a later phase.
+     */
+    private static final class Phase {
+
+        private final State state;
+        /**
+         * The outcomes of the calls of the closed phase, kept by the following phases for {@link #failureRate()}.
+         */
+        private final Window window;
+        private final long openedAt;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes;
+
+        private Phase(State state, Window window, long openedAt, int permits) {
+            this.state = state;
+            this.window = window;
+            this.openedAt = openedAt;
+            this.permits = state == State.HALF_OPEN ? new AtomicInteger(permits) : null;
+            this.successes = state == State.HALF_OPEN ? new AtomicInteger() : null;
+        }
+
+        private boolean tryTakePermit() {
+            while (true) {
+                final int remaining = permits.get();
+                if (remaining <= 0) {
+                    return false;
+                }
+                if (permits.compareAndSet(remaining, remaining - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private final double failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Predicate<? super Failure> countedFailure;
+    private final LongSupplier ticker;
+    private final Result<Object> rejection;
+    private final AtomicReference<Phase> phase;
+    private final LongAdder rejections = new LongAdder();
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.openNanos = builder.openNanos;
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.countedFailure = builder.countedFailure;
+        this.ticker = builder.ticker;
+        this.rejection = Result.sharedFailed(Objects.isNull(builder.rejectionCode)
+                ? new CircuitOpenFailure()
+                : builder.rejectionCode.failure());
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    private Phase closed() {
+        return new Phase(State.CLOSED, new Window(slidingWindowSize), 0L, 0);
+    }
+
+    /**
+     * Runs the operation and records its outcome, or returns the shared rejected {@code Result} without running it if
+     * the circuit breaker is open.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> call(Supplier<? extends Result<T>> operation) {
+        if (Objects.isNull(operation)) {
+            throw new NullPointerException("Operation must be defined.");
+        }
+        final Phase admitted = tryAcquire();
+        if (Objects.isNull(admitted)) {
+            rejections.increment();
+            return (Result<T>) (Result<?>) rejection;
+        }
+        Result<T> result;
+        try {
+            result = operation.get();
+            if (Objects.isNull(result)) {
+                result = Result.<T>failed().withFailureMessage("Supplied result must be defined.");
+            }
+        } catch (Exception e) {
+            result = Result.<T>failed().withExceptionalFailure(e);
+        } catch (Error e) {
+            record(admitted, true);
+            throw e;
+        }
+        record(admitted, isCountedFailure(result));
+        return result;
+    }
+
+    /**
+     * Returns the phase the call is admitted in, {@code null} if it is rejected.
+     */
+    private Phase tryAcquire() {
+        Phase current = phase.get();
+        if (current.state == State.CLOSED) {
+            return current;
+        }
+        if (current.state == State.OPEN) {
+            if (ticker.getAsLong() - current.openedAt < openNanos) {
+                return null;
+            }
+            phase.compareAndSet(current, new Phase(State.HALF_OPEN, current.window, 0L, halfOpenCalls));
+            current = phase.get();
+            if (current.state == State.CLOSED) {
+                return current;
+            }
+            if (current.state == State.OPEN) {
+                return null;
+            }
+        }
+        return current.tryTakePermit() ? current : null;
+    }
+
+    private boolean isCountedFailure(Result<?> result) {
+        if (result.isSuccessful()) {
+            return false;
+        }
+        if (Objects.isNull(countedFailure)) {
+            return true;
+        }
+        for (Failure failure : result.failuresView()) {
+            if (countedFailure.test(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void record(Phase admitted, boolean failed) {
+        if (phase.get() != admitted) {
+            return;
+        }
+        if (admitted.state == State.CLOSED) {
+            admitted.window.record(failed);
+            if (failed && admitted.window.calls.get() >= minimumCalls
+                    && admitted.window.failureRate() >= failureRateThreshold) {
+                open(admitted);
+            }
+        } else if (failed) {
+            open(admitted);
+        } else if (admitted.successes.incrementAndGet() == halfOpenCalls) {
+            phase.compareAndSet(admitted, closed());
+        }
+    }
+
+    private void open(Phase from) {
+        phase.compareAndSet(from, new Phase(State.OPEN, from.window, ticker.getAsLong(), 0));
+    }
+
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns the share of failed calls in the window of the current closed phase, or of the last one while open or
+     * half-open, {@code 0} if it holds no call.
+     */
+    public double failureRate() {
+        return phase.get().window.failureRate();
+    }
+
+    public long rejectedCount() {
+        return rejections.sum();
+    }
+}
@@ -0,0 +1,48 @@
+package com.vincentdao.result.circuit;
+
+import com.vincentdao.result.trace.Failure;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Immutable {@link Failure} of the calls rejected by an open {@link CircuitBreaker}.
+ * <p>
+ * There is one {@code CircuitOpenFailure} per circuit breaker, shared by every rejected call. Since it is shared, it
+ * cannot have causes.
+ */
+public final class CircuitOpenFailure implements Failure {
+
+    CircuitOpenFailure() {
+    }
+
+    @Override
+    public String message() {
+        return "Circuit breaker is open.";
+    }
+
+    @Override
+    public Collection<Failure> reasons() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since a {@code CircuitOpenFailure} is shared.
+     */
+    @Override
+    public void causedBy(Failure failure) {
+        throw new UnsupportedOperationException("Circuit open failures are shared and cannot have causes.");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since a {@code CircuitOpenFailure} is shared.
+     */
+    @Override
+    public void causedBy(Collection<Failure> failures) {
+        throw new UnsupportedOperationException("Circuit open failures are shared and cannot have causes.");
+    }
+
+    @Override
+    public String toString() {
+        return message();
+    }
+}
@@ -0,0 +1,160 @@
+package com.vincentdao.result.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Variable-length integers and UTF-8 strings read and written directly on {@link ByteBuffer}s.
+ * <p>
+ * Lengths and counts are unsigned LEB128 varints. Strings are prefixed by their UTF-8 length plus one, so that
+ * {@code 0} denotes {@code null}.
+ */
+final class Buffers {
+
+    private Buffers() {
+    }
+
+    static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer.");
+    }
+
+    /**
+     * Reads a count, which must not be negative.
+     */
+    static int getCount(ByteBuffer buffer) {
+        final int count = getVarInt(buffer);
+        if (count < 0) {
+            throw new IllegalArgumentException("Malformed count: " + count);
+        }
+        return count;
+    }
+
+    static int stringSize(String value) {
+        if (Objects.isNull(value)) {
+            return 1;
+        }
+        final int length = utf8Length(value);
+        return varIntSize(length + 1) + length;
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        if (Objects.isNull(value)) {
+            putVarInt(buffer, 0);
+            return;
+        }
+        final int size = utf8Length(value);
+        putVarInt(buffer, size + 1);
+        final int length = value.length();
+        if (size == length && buffer.hasArray()) {
+            // ASCII only: copied straight into the backing array.
+            if (size > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            final byte[] array = buffer.array();
+            final int offset = buffer.arrayOffset() + buffer.position();
+            for (int i = 0; i < length; i++) {
+                array[offset + i] = (byte) value.charAt(i);
+            }
+            buffer.position(buffer.position() + size);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >>> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (isSurrogatePair(value, i)) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >>> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate, replaced as String.getBytes does.
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >>> 12)));
+                buffer.put((byte) (0x80 | ((c >>> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    static String getString(ByteBuffer buffer) {
+        final int prefix = getCount(buffer);
+        if (prefix == 0) {
+            return null;
+        }
+        final int length = prefix - 1;
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("Malformed string length: " + length);
+        }
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static int utf8Length(String value) {
+        final int length = value.length();
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (isSurrogatePair(value, i)) {
+                size += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                size++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+                && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+}
@@ -0,0 +1,23 @@
+package com.vincentdao.result.codec;
+
+import com.vincentdao.result.trace.Reason;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes a {@link Reason} type for {@link ResultCodec}, registered in a {@link ReasonCodecRegistry}.
+ * <p>
+ * Only the reason itself is encoded: the causes of a {@link com.vincentdao.result.trace.Failure} are encoded by
+ * {@link ResultCodec}, and added to the decoded failure through
+ * {@link com.vincentdao.result.trace.Failure#causedBy(com.vincentdao.result.trace.Failure)}. {@link #size(Reason)}
+ * must return the exact number of bytes written by {@link #encode(Reason, ByteBuffer)}.
+ *
+ * @param <R> The type of the reason.
+ */
+public interface ReasonCodec<R extends Reason> {
+
+    int size(R reason);
+
+    void encode(R reason, ByteBuffer buffer);
+
+    R decode(ByteBuffer buffer);
+}
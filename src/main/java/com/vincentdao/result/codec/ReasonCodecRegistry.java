@@ -0,0 +1,250 @@
+package com.vincentdao.result.codec;
+
+import com.vincentdao.result.trace.CodedFailure;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.LazyFailure;
+import com.vincentdao.result.trace.LazySuccess;
+import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.Success;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps {@link Reason} types to the {@link ReasonCodec}s used by {@link ResultCodec}, each identified by a tag written
+ * before the encoded reason.
+ * <p>
+ * The built-in reasons are always registered, with tags below {@link #FIRST_CUSTOM_TAG}:
+ * <ul>
+ *     <li>{@link DefaultFailure} and {@link LazyFailure}, decoded as {@link DefaultFailure}.</li>
+ *     <li>{@link DefaultSuccess} and {@link LazySuccess}, decoded as {@link DefaultSuccess}.</li>
+ *     <li>{@link ExceptionalFailure}, encoding the exception type name and message, decoded as a stackless
+ *     {@link ExceptionalFailure}.</li>
+ *     <li>{@link CodedFailure}, decoded as the shared failure of the registered {@link FailureCode}, or as a
+ *     {@link DefaultFailure} if the code is not registered.</li>
+ * </ul>
+ * A reason is encoded with the codec registered for its class or its closest registered superclass. Other
+ * {@link Failure}s and {@link Success}es fall back to the message-only codecs of {@link DefaultFailure} and
+ * {@link DefaultSuccess}.
+ * <p>
+ * A registry is safe to share between threads, but registering while encoding or decoding is not recommended.
+ */
+public final class ReasonCodecRegistry {
+
+    /**
+     * The lowest tag available to {@link #register(int, Class, ReasonCodec)}.
+     */
+    public static final int FIRST_CUSTOM_TAG = 16;
+
+    private static final int MESSAGE_FAILURE_TAG = 1;
+    private static final int MESSAGE_SUCCESS_TAG = 2;
+    private static final int EXCEPTIONAL_FAILURE_TAG = 3;
+    private static final int CODED_FAILURE_TAG = 4;
+
+    public static ReasonCodecRegistry withDefaults() {
+        return new ReasonCodecRegistry();
+    }
+
+    private final ConcurrentMap<Integer, Entry> byTag = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Entry> byType = new ConcurrentHashMap<>();
+    /**
+     * Caches the entry resolved for each concrete reason class, including fallbacks.
+     */
+    private final ConcurrentMap<Class<?>, Entry> resolved = new ConcurrentHashMap<>();
+    private final Entry messageFailure;
+    private final Entry messageSuccess;
+
+    private ReasonCodecRegistry() {
+        this.messageFailure = put(MESSAGE_FAILURE_TAG, DefaultFailure.class, new MessageFailureCodec());
+        this.messageSuccess = put(MESSAGE_SUCCESS_TAG, DefaultSuccess.class, new MessageSuccessCodec());
+        byType.put(LazyFailure.class, messageFailure);
+        byType.put(LazySuccess.class, messageSuccess);
+        put(EXCEPTIONAL_FAILURE_TAG, ExceptionalFailure.class, new ExceptionalFailureCodec());
+        put(CODED_FAILURE_TAG, CodedFailure.class, new CodedFailureCodec());
+    }
+
+    /**
+     * Registers the codec for the reason type, and its subtypes without a codec of their own.
+     *
+     * @throws IllegalArgumentException if the tag is reserved, or if the tag or the type is already registered.
+     */
+    public <R extends Reason> ReasonCodecRegistry register(int tag, Class<R> type, ReasonCodec<R> codec) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Reason type must be defined.");
+        }
+        if (Objects.isNull(codec)) {
+            throw new NullPointerException("Reason codec must be defined.");
+        }
+        if (tag < FIRST_CUSTOM_TAG) {
+            throw new IllegalArgumentException("Tags below " + FIRST_CUSTOM_TAG + " are reserved: " + tag);
+        }
+        synchronized (this) {
+            if (byTag.containsKey(tag)) {
+                throw new IllegalArgumentException("Tag is already registered: " + tag);
+            }
+            if (byType.containsKey(type)) {
+                throw new IllegalArgumentException("Reason type is already registered: " + type.getName());
+            }
+            put(tag, type, codec);
+            resolved.clear();
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry put(int tag, Class<? extends Reason> type, ReasonCodec<? extends Reason> codec) {
+        final Entry entry = new Entry(tag, (ReasonCodec<Reason>) codec, Failure.class.isAssignableFrom(type));
+        byTag.put(tag, entry);
+        byType.put(type, entry);
+        return entry;
+    }
+
+    Entry forType(Class<? extends Reason> type) {
+        final Entry entry = resolved.get(type);
+        return Objects.nonNull(entry) ? entry : resolved.computeIfAbsent(type, this::resolve);
+    }
+
+    Entry forTag(int tag) {
+        final Entry entry = byTag.get(tag);
+        if (Objects.isNull(entry)) {
+            throw new IllegalArgumentException("Unknown reason tag: " + tag);
+        }
+        return entry;
+    }
+
+    private Entry resolve(Class<?> type) {
+        for (Class<?> current = type; Objects.nonNull(current); current = current.getSuperclass()) {
+            final Entry entry = byType.get(current);
+            if (Objects.nonNull(entry)) {
+                return entry;
+            }
+        }
+        if (Failure.class.isAssignableFrom(type)) {
+            return messageFailure;
+        }
+        if (Success.class.isAssignableFrom(type)) {
+            return messageSuccess;
+        }
+        throw new IllegalArgumentException("No codec registered for reason type: " + type.getName());
+    }
+
+    static final class Entry {
+
+        final int tag;
+        final ReasonCodec<Reason> codec;
+        /**
+         * Whether the reasons are {@link Failure}s, followed by their causes.
+         */
+        final boolean failure;
+
+        private Entry(int tag, ReasonCodec<Reason> codec, boolean failure) {
+            this.tag = tag;
+            this.codec = codec;
+            this.failure = failure;
+        }
+    }
+
+    private static final class MessageFailureCodec implements ReasonCodec<Failure> {
+
+        @Override
+        public int size(Failure reason) {
+            return Buffers.stringSize(reason.message());
+        }
+
+        @Override
+        public void encode(Failure reason, ByteBuffer buffer) {
+            Buffers.putString(buffer, reason.message());
+        }
+
+        @Override
+        public Failure decode(ByteBuffer buffer) {
+            final String message = Buffers.getString(buffer);
+            return new DefaultFailure(Objects.isNull(message) ? "" : message);
+        }
+    }
+
+    private static final class MessageSuccessCodec implements ReasonCodec<Success> {
+
+        @Override
+        public int size(Success reason) {
+            return Buffers.stringSize(reason.message());
+        }
+
+        @Override
+        public void encode(Success reason, ByteBuffer buffer) {
+            Buffers.putString(buffer, reason.message());
+        }
+
+        @Override
+        public Success decode(ByteBuffer buffer) {
+            final String message = Buffers.getString(buffer);
+            return new DefaultSuccess(Objects.isNull(message) ? "" : message);
+        }
+    }
+
+    private static final class ExceptionalFailureCodec implements ReasonCodec<ExceptionalFailure> {
+
+        @Override
+        public int size(ExceptionalFailure reason) {
+            return Buffers.stringSize(reason.exceptionType().getName()) + Buffers.stringSize(reason.message());
+        }
+
+        @Override
+        public void encode(ExceptionalFailure reason, ByteBuffer buffer) {
+            Buffers.putString(buffer, reason.exceptionType().getName());
+            Buffers.putString(buffer, reason.message());
+        }
+
+        @Override
+        public ExceptionalFailure decode(ByteBuffer buffer) {
+            final String typeName = Buffers.getString(buffer);
+            final String message = Buffers.getString(buffer);
+            return ExceptionalFailure.stackless(exceptionType(typeName), message);
+        }
+
+        /**
+         * Loads the exception type without initializing it, falling back to {@link Exception} if it is unknown.
+         */
+        private static Class<? extends Exception> exceptionType(String typeName) {
+            if (Objects.isNull(typeName)) {
+                return Exception.class;
+            }
+            try {
+                final Class<?> type = Class.forName(typeName, false, ExceptionalFailureCodec.class.getClassLoader());
+                return Exception.class.isAssignableFrom(type) ? type.asSubclass(Exception.class) : Exception.class;
+            } catch (ClassNotFoundException e) {
+                return Exception.class;
+            }
+        }
+    }
+
+    private static final class CodedFailureCodec implements ReasonCodec<Failure> {
+
+        @Override
+        public int size(Failure reason) {
+            final FailureCode code = ((CodedFailure) reason).code();
+            return Integer.BYTES + Buffers.stringSize(code.message());
+        }
+
+        @Override
+        public void encode(Failure reason, ByteBuffer buffer) {
+            final FailureCode code = ((CodedFailure) reason).code();
+            buffer.putInt(code.code());
+            Buffers.putString(buffer, code.message());
+        }
+
+        @Override
+        public Failure decode(ByteBuffer buffer) {
+            final int code = buffer.getInt();
+            final String message = Buffers.getString(buffer);
+            return FailureCode.lookup(code)
+                    .<Failure>map(FailureCode::failure)
+                    .orElseGet(() -> new DefaultFailure(Objects.isNull(message) ? "" : message));
+        }
+    }
+}
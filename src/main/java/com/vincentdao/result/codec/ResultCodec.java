@@ -0,0 +1,342 @@
+package com.vincentdao.result.codec;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.CodedFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.Reason;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encodes a {@link Result} into a compact binary format, and decodes it, directly on a {@link ByteBuffer} (heap or
+ * direct).
+ * <p>
+ * The format is:
+ * <ol>
+ *     <li>The format version, one byte.</li>
+ *     <li>Flags, one byte: {@code 1} if the result is successful.</li>
+ *     <li>If successful, the value, encoded by the {@link ValueCodec}.</li>
+ *     <li>The number of reasons, then each reason: its tag (see {@link ReasonCodecRegistry}), the reason encoded by
+ *     its {@link ReasonCodec}, and for a {@link Failure}, the number of its causes followed by the causes, encoded
+ *     the same way.</li>
+ * </ol>
+ * Counts and tags are variable-length integers. Failure cause trees are walked iteratively, so deep trees do not
+ * overflow the stack; a cycle in a cause tree is rejected with an {@link IllegalArgumentException}. A failure shared
+ * by several branches of the tree is encoded once per branch.
+ * <p>
+ * {@code ResultCodec} instances are immutable and safe to share between threads.
+ *
+ * @param <T> The type of the value.
+ */
+public final class ResultCodec<T> {
+
+    /**
+     * The version written first by {@link #encode(Result, ByteBuffer)}.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte SUCCESSFUL = 1;
+    private static final ReasonCodecRegistry DEFAULT_REGISTRY = ReasonCodecRegistry.withDefaults();
+
+    /**
+     * Creates a codec for the built-in reasons only.
+     */
+    public static <T> ResultCodec<T> of(ValueCodec<T> valueCodec) {
+        return of(valueCodec, DEFAULT_REGISTRY);
+    }
+
+    public static <T> ResultCodec<T> of(ValueCodec<T> valueCodec, ReasonCodecRegistry registry) {
+        if (Objects.isNull(valueCodec)) {
+            throw new NullPointerException("Value codec must be defined.");
+        }
+        if (Objects.isNull(registry)) {
+            throw new NullPointerException("Reason codec registry must be defined.");
+        }
+        return new ResultCodec<>(valueCodec, registry);
+    }
+
+    private final ValueCodec<T> valueCodec;
+    private final ReasonCodecRegistry registry;
+    /**
+     * Whether the results have no value, in which case nothing is written for the value.
+     */
+    private final boolean noValue;
+
+    private ResultCodec(ValueCodec<T> valueCodec, ReasonCodecRegistry registry) {
+        this.valueCodec = valueCodec;
+        this.registry = registry;
+        this.noValue = valueCodec == ValueCodecs.noValue();
+    }
+
+    /**
+     * Returns the exact number of bytes written by {@link #encode(Result, ByteBuffer)} for the result.
+     */
+    public int encodedSize(Result<T> result) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        return write(result, null);
+    }
+
+    /**
+     * Writes the result at the position of the buffer, advancing it.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining, in which case part of
+     * the result may have been written. Use {@link #encodedSize(Result)} to size the buffer.
+     */
+    public void encode(Result<T> result, ByteBuffer buffer) {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        if (Objects.isNull(buffer)) {
+            throw new NullPointerException("Buffer must be defined.");
+        }
+        write(result, buffer);
+    }
+
+    /**
+     * Reads a result at the position of the buffer, advancing it.
+     *
+     * @throws IllegalArgumentException if the version is not supported or the input is malformed.
+     * @throws java.nio.BufferUnderflowException if the input is truncated.
+     */
+    public Result<T> decode(ByteBuffer buffer) {
+        if (Objects.isNull(buffer)) {
+            throw new NullPointerException("Buffer must be defined.");
+        }
+        final byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported format version: " + version);
+        }
+        final byte flags = buffer.get();
+        final Result<T> result;
+        if ((flags & SUCCESSFUL) == 0) {
+            result = Result.failed();
+        } else if (noValue) {
+            result = noValueResult();
+        } else {
+            result = Result.<T>successful().withValue(valueCodec.decode(buffer));
+        }
+        final int count = readCount(buffer);
+        for (int i = 0; i < count; i++) {
+            result.withReason(readReason(buffer));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the result to the buffer, or only computes its size if the buffer is {@code null}.
+     */
+    private int write(Result<T> result, ByteBuffer buffer) {
+        final boolean successful = result.isSuccessful();
+        final int reasonCount = result.reasonsView().size();
+        int size = 2 + Buffers.varIntSize(reasonCount);
+        if (Objects.nonNull(buffer)) {
+            buffer.put(VERSION);
+            buffer.put(successful ? SUCCESSFUL : 0);
+        }
+        if (successful && !noValue) {
+            final T value = result.value();
+            if (Objects.isNull(buffer)) {
+                size += valueCodec.size(value);
+            } else {
+                valueCodec.encode(value, buffer);
+            }
+        }
+        if (Objects.nonNull(buffer)) {
+            Buffers.putVarInt(buffer, reasonCount);
+        }
+        final Path path = new Path();
+        for (Reason reason : result.reasonsView()) {
+            size += writeReason(reason, buffer, path);
+        }
+        return size;
+    }
+
+    private int writeReason(Reason reason, ByteBuffer buffer, Path path) {
+        int size = writeNode(reason, buffer);
+        if (!(reason instanceof Failure) || causesOf((Failure) reason).isEmpty()) {
+            return size;
+        }
+        // Pre-order walk, keeping the failures of the current path to detect cycles.
+        path.push((Failure) reason);
+        while (!path.isEmpty()) {
+            final Iterator<Failure> causes = path.causes();
+            if (!causes.hasNext()) {
+                path.pop();
+                continue;
+            }
+            final Failure cause = causes.next();
+            if (Objects.isNull(cause)) {
+                throw new IllegalArgumentException("Failure causes contain null.");
+            }
+            if (path.contains(cause)) {
+                throw new IllegalArgumentException("Failure causes contain a cycle.");
+            }
+            size += writeNode(cause, buffer);
+            if (!causesOf(cause).isEmpty()) {
+                path.push(cause);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes the reason and, for a {@link Failure}, its number of causes.
+     */
+    private int writeNode(Reason reason, ByteBuffer buffer) {
+        final ReasonCodecRegistry.Entry entry = registry.forType(reason.getClass());
+        final int causeCount = entry.failure ? causesOf((Failure) reason).size() : 0;
+        if (Objects.nonNull(buffer)) {
+            Buffers.putVarInt(buffer, entry.tag);
+            entry.codec.encode(reason, buffer);
+            if (entry.failure) {
+                Buffers.putVarInt(buffer, causeCount);
+            }
+            return 0;
+        }
+        int size = Buffers.varIntSize(entry.tag) + entry.codec.size(reason);
+        if (entry.failure) {
+            size += Buffers.varIntSize(causeCount);
+        }
+        return size;
+    }
+
+    private Reason readReason(ByteBuffer buffer) {
+        final ReasonCodecRegistry.Entry rootEntry = registry.forTag(Buffers.getVarInt(buffer));
+        final Reason root = rootEntry.codec.decode(buffer);
+        if (!rootEntry.failure) {
+            return root;
+        }
+        final int rootCauseCount = readCauseCount((Failure) root, buffer);
+        if (rootCauseCount == 0) {
+            return root;
+        }
+        final ArrayDeque<Failure> parents = new ArrayDeque<>();
+        final ArrayDeque<int[]> remaining = new ArrayDeque<>();
+        parents.addLast((Failure) root);
+        remaining.addLast(new int[]{rootCauseCount});
+        while (!parents.isEmpty()) {
+            final int[] count = remaining.peekLast();
+            if (count[0] == 0) {
+                parents.removeLast();
+                remaining.removeLast();
+                continue;
+            }
+            count[0]--;
+            final ReasonCodecRegistry.Entry entry = registry.forTag(Buffers.getVarInt(buffer));
+            if (!entry.failure) {
+                throw new IllegalArgumentException("Failure cause is not a failure, tag: " + entry.tag);
+            }
+            final Failure cause = (Failure) entry.codec.decode(buffer);
+            parents.peekLast().causedBy(cause);
+            final int causeCount = readCauseCount(cause, buffer);
+            if (causeCount > 0) {
+                parents.addLast(cause);
+                remaining.addLast(new int[]{causeCount});
+            }
+        }
+        return root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> noValueResult() {
+        return (Result<T>) Result.successful().withNoValue();
+    }
+
+    /**
+     * Reads a count, which cannot exceed the remaining bytes since each counted element takes at least one byte.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        final int count = Buffers.getCount(buffer);
+        if (count > buffer.remaining()) {
+            throw new IllegalArgumentException("Malformed count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the number of causes of the failure, rejecting causes for a {@link CodedFailure}, which is shared and
+     * cannot have any.
+     */
+    private static int readCauseCount(Failure failure, ByteBuffer buffer) {
+        final int count = readCount(buffer);
+        if (count > 0 && failure instanceof CodedFailure) {
+            throw new IllegalArgumentException("Malformed causes: coded failures cannot have causes.");
+        }
+        return count;
+    }
+
+    private static Collection<Failure> causesOf(Failure failure) {
+        final Collection<Failure> causes = failure.reasons();
+        return Objects.isNull(causes) ? Collections.emptyList() : causes;
+    }
+
+    /**
+     * The failures from a root reason to the failure being walked, with the iterators over their remaining causes.
+     * <p>
+     * Membership is checked by scanning the path while it is short, and through an identity set once it is deep.
+     */
+    private static final class Path {
+
+        private static final int SCAN_LIMIT = 16;
+
+        private Failure[] failures = new Failure[SCAN_LIMIT];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Iterator<Failure>[] causes = new Iterator[SCAN_LIMIT];
+        private int depth;
+        private Set<Failure> members;
+
+        boolean isEmpty() {
+            return depth == 0;
+        }
+
+        Iterator<Failure> causes() {
+            return causes[depth - 1];
+        }
+
+        boolean contains(Failure failure) {
+            if (Objects.nonNull(members)) {
+                return members.contains(failure);
+            }
+            for (int i = 0; i < depth; i++) {
+                if (failures[i] == failure) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void push(Failure failure) {
+            if (depth == failures.length) {
+                failures = Arrays.copyOf(failures, depth << 1);
+                causes = Arrays.copyOf(causes, depth << 1);
+            }
+            failures[depth] = failure;
+            causes[depth] = causesOf(failure).iterator();
+            depth++;
+            if (Objects.nonNull(members)) {
+                members.add(failure);
+            } else if (depth > SCAN_LIMIT) {
+                members = Collections.newSetFromMap(new IdentityHashMap<>());
+                members.addAll(Arrays.asList(failures).subList(0, depth));
+            }
+        }
+
+        void pop() {
+            depth--;
+            if (Objects.nonNull(members)) {
+                members.remove(failures[depth]);
+            }
+            failures[depth] = null;
+            causes[depth] = null;
+        }
+    }
+}
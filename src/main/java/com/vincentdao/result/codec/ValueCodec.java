@@ -0,0 +1,21 @@
+package com.vincentdao.result.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes the value of a successful {@link com.vincentdao.result.Result} for {@link ResultCodec}.
+ * <p>
+ * Implementations read and write at the current position of the buffer, advancing it. {@link #size(Object)} must
+ * return the exact number of bytes written by {@link #encode(Object, ByteBuffer)}.
+ *
+ * @param <T> The type of the value.
+ * @see ValueCodecs
+ */
+public interface ValueCodec<T> {
+
+    int size(T value);
+
+    void encode(T value, ByteBuffer buffer);
+
+    T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,129 @@
+package com.vincentdao.result.codec;
+
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import java.nio.ByteBuffer;
+
+/**
+ * Provides {@link ValueCodec}s for common value types.
+ */
+public final class ValueCodecs {
+
+    private static final ValueCodec<NoValue> NO_VALUE_CODEC = new ValueCodec<NoValue>() {
+        @Override
+        public int size(NoValue value) {
+            return 0;
+        }
+
+        @Override
+        public void encode(NoValue value, ByteBuffer buffer) {
+        }
+
+        /**
+         * {@link NoValue} cannot be created outside of a {@link Result}: {@link ResultCodec} decodes no-value results
+         * itself.
+         */
+        @Override
+        public NoValue decode(ByteBuffer buffer) {
+            throw new UnsupportedOperationException("No-value results are only decoded by ResultCodec.");
+        }
+    };
+
+    private static final ValueCodec<Integer> INTEGER_CODEC = new ValueCodec<Integer>() {
+        @Override
+        public int size(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    private static final ValueCodec<Long> LONG_CODEC = new ValueCodec<Long>() {
+        @Override
+        public int size(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    private static final ValueCodec<Double> DOUBLE_CODEC = new ValueCodec<Double>() {
+        @Override
+        public int size(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    private static final ValueCodec<String> STRING_CODEC = new ValueCodec<String>() {
+        @Override
+        public int size(String value) {
+            return Buffers.stringSize(value);
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            Buffers.putString(buffer, value);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            return Buffers.getString(buffer);
+        }
+    };
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Returns the codec for no-value results ({@link Result}{@code <NoValue>}), which writes nothing.
+     */
+    public static ValueCodec<NoValue> noValue() {
+        return NO_VALUE_CODEC;
+    }
+
+    public static ValueCodec<Integer> integers() {
+        return INTEGER_CODEC;
+    }
+
+    public static ValueCodec<Long> longs() {
+        return LONG_CODEC;
+    }
+
+    public static ValueCodec<Double> doubles() {
+        return DOUBLE_CODEC;
+    }
+
+    /**
+     * Returns the codec for UTF-8 strings, prefixed by their length. Also usable by {@link ReasonCodec}s to encode
+     * messages, since it accepts {@code null}.
+     */
+    public static ValueCodec<String> strings() {
+        return STRING_CODEC;
+    }
+}
@@ -0,0 +1,17 @@
+package com.vincentdao.result.json;
+
+import java.io.IOException;
+
+/**
+ * Writes the value of a successful {@link com.vincentdao.result.Result} as a single JSON value for
+ * {@link ResultJsonWriter}.
+ * <p>
+ * {@link ResultJsonWriter#writeString(CharSequence, Appendable)} can be used to write escaped JSON strings.
+ *
+ * @param <T> The type of the value.
+ */
+@FunctionalInterface
+public interface JsonValueWriter<T> {
+
+    void write(T value, Appendable out) throws IOException;
+}
@@ -0,0 +1,320 @@
+package com.vincentdao.result.json;
+
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.CodedFailure;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.Reason;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Writes a {@link Result} as JSON, incrementally, to an {@link Appendable} (such as a {@link Writer} or a
+ * {@link StringBuilder}) or an {@link OutputStream}.
+ * <p>
+ * The document has the form:
+ * <pre>{@code
+ * {"successful":false,"reasons":[
+ *   {"kind":"failure","message":"Order rejected.","causes":[
+ *     {"kind":"failure","message":"Item out of stock.","code":1001},
+ *     {"kind":"failure","message":"Timed out.","exceptionType":"java.util.concurrent.TimeoutException"}
+ *   ]},
+ *   {"kind":"success","message":"Payment authorized."}
+ * ]}
+ * }</pre>
+ * The value of a successful result is written by a {@link JsonValueWriter}, and omitted for a no-value result.
+ * <p>
+ * Failure causes are walked iteratively, so the writer only holds the current path in memory. The nesting depth and
+ * the total number of reasons written are limited (see {@link #withMaxDepth(int)} and {@link #withMaxReasons(int)}),
+ * which also bounds the output for cause trees containing cycles. Reasons left out are counted in
+ * {@code "omittedReasons"} at the top level and {@code "omittedCauses"} on a failure.
+ * <p>
+ * {@code ResultJsonWriter} instances are immutable and safe to share between threads.
+ */
+public final class ResultJsonWriter {
+
+    public static final int DEFAULT_MAX_DEPTH = 32;
+    public static final int DEFAULT_MAX_REASONS = 1000;
+
+    private static final ResultJsonWriter DEFAULT = new ResultJsonWriter(DEFAULT_MAX_DEPTH, DEFAULT_MAX_REASONS);
+    private static final JsonValueWriter<Object> DEFAULT_VALUE_WRITER = ResultJsonWriter::writeDefaultValue;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Returns a writer with the default limits.
+     */
+    public static ResultJsonWriter create() {
+        return DEFAULT;
+    }
+
+    private final int maxDepth;
+    private final int maxReasons;
+
+    private ResultJsonWriter(int maxDepth, int maxReasons) {
+        this.maxDepth = maxDepth;
+        this.maxReasons = maxReasons;
+    }
+
+    /**
+     * Returns a writer limiting the nesting of reasons: the reasons of the result are at depth {@code 1}, their causes
+     * at depth {@code 2}, and so on.
+     */
+    public ResultJsonWriter withMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth must be positive.");
+        }
+        return new ResultJsonWriter(maxDepth, maxReasons);
+    }
+
+    /**
+     * Returns a writer limiting the total number of reasons written, including causes.
+     */
+    public ResultJsonWriter withMaxReasons(int maxReasons) {
+        if (maxReasons < 0) {
+            throw new IllegalArgumentException("Max reasons must not be negative.");
+        }
+        return new ResultJsonWriter(maxDepth, maxReasons);
+    }
+
+    /**
+     * Writes the result, writing numbers and booleans as JSON literals and other values as JSON strings of their
+     * {@code toString()}.
+     */
+    public void write(Result<?> result, Appendable out) throws IOException {
+        write(result, DEFAULT_VALUE_WRITER, out);
+    }
+
+    public <T> void write(Result<T> result, JsonValueWriter<? super T> valueWriter, Appendable out)
+            throws IOException {
+        if (Objects.isNull(result)) {
+            throw new NullPointerException("Result must be defined.");
+        }
+        if (Objects.isNull(valueWriter)) {
+            throw new NullPointerException("Value writer must be defined.");
+        }
+        if (Objects.isNull(out)) {
+            throw new NullPointerException("Output must be defined.");
+        }
+        out.append("{\"successful\":").append(result.isSuccessful() ? "true" : "false");
+        if (result.isSuccessful()) {
+            final T value = result.fold(ResultJsonWriter::identity, failures -> null);
+            if (!(value instanceof NoValue)) {
+                out.append(",\"value\":");
+                valueWriter.write(value, out);
+            }
+        }
+        out.append(",\"reasons\":[");
+        final Walk walk = new Walk(out);
+        int written = 0;
+        int omitted = 0;
+        for (Reason reason : result.reasonsView()) {
+            if (walk.budget == 0) {
+                omitted++;
+                continue;
+            }
+            if (written++ > 0) {
+                out.append(',');
+            }
+            walk.writeTree(reason);
+        }
+        out.append(']');
+        if (omitted > 0) {
+            out.append(",\"omittedReasons\":").append(Integer.toString(omitted));
+        }
+        out.append('}');
+    }
+
+    /**
+     * Writes the result as UTF-8 to the stream, which is flushed but not closed.
+     */
+    public void write(Result<?> result, OutputStream out) throws IOException {
+        write(result, DEFAULT_VALUE_WRITER, out);
+    }
+
+    public <T> void write(Result<T> result, JsonValueWriter<? super T> valueWriter, OutputStream out)
+            throws IOException {
+        if (Objects.isNull(out)) {
+            throw new NullPointerException("Output must be defined.");
+        }
+        final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        write(result, valueWriter, writer);
+        writer.flush();
+    }
+
+    public String toJson(Result<?> result) {
+        final StringBuilder builder = new StringBuilder();
+        try {
+            write(result, builder);
+        } catch (IOException e) {
+            // StringBuilder does not throw.
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the characters as a quoted and escaped JSON string, or {@code null}.
+     */
+    public static void writeString(CharSequence value, Appendable out) throws IOException {
+        if (Objects.isNull(value)) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        final int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            out.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append("\\u")
+                            .append(HEX_DIGITS[(c >> 12) & 0xF])
+                            .append(HEX_DIGITS[(c >> 8) & 0xF])
+                            .append(HEX_DIGITS[(c >> 4) & 0xF])
+                            .append(HEX_DIGITS[c & 0xF]);
+                    break;
+            }
+        }
+        out.append(value, start, length);
+        out.append('"');
+    }
+
+    private static <T> T identity(T value) {
+        return value;
+    }
+
+    private static void writeDefaultValue(Object value, Appendable out) throws IOException {
+        if (value instanceof Boolean
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte) {
+            out.append(value.toString());
+        } else if (value instanceof Number && isFinite((Number) value)) {
+            out.append(value.toString());
+        } else {
+            writeString(String.valueOf(value), out);
+        }
+    }
+
+    private static boolean isFinite(Number number) {
+        final double value = number.doubleValue();
+        return !Double.isNaN(value) && !Double.isInfinite(value);
+    }
+
+    private static Collection<Failure> causesOf(Reason reason) {
+        if (!(reason instanceof Failure)) {
+            return null;
+        }
+        final Collection<Failure> causes = ((Failure) reason).reasons();
+        return Objects.isNull(causes) || causes.isEmpty() ? null : causes;
+    }
+
+    /**
+     * Writes reasons while counting them against the reason limit, keeping the open failures of the current path.
+     */
+    private final class Walk {
+
+        private final Appendable out;
+        private final ArrayDeque<Frame> path = new ArrayDeque<>();
+        private int budget = maxReasons;
+
+        private Walk(Appendable out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes a reason of the result and its causes.
+         */
+        void writeTree(Reason root) throws IOException {
+            openReason(root, 1);
+            while (!path.isEmpty()) {
+                final Frame frame = path.peekLast();
+                if (!frame.causes.hasNext()) {
+                    path.removeLast();
+                    out.append(']');
+                    if (frame.omitted > 0) {
+                        out.append(",\"omittedCauses\":").append(Integer.toString(frame.omitted));
+                    }
+                    out.append('}');
+                    continue;
+                }
+                final Failure cause = frame.causes.next();
+                if (budget == 0 || Objects.isNull(cause)) {
+                    frame.omitted++;
+                    continue;
+                }
+                if (frame.written++ > 0) {
+                    out.append(',');
+                }
+                openReason(cause, frame.depth + 1);
+            }
+        }
+
+        /**
+         * Writes the reason, leaving it open if its causes are to be written next.
+         */
+        private void openReason(Reason reason, int depth) throws IOException {
+            budget--;
+            out.append("{\"kind\":").append(reason instanceof Failure ? "\"failure\"" : "\"success\"");
+            out.append(",\"message\":");
+            writeString(reason.message(), out);
+            if (reason instanceof CodedFailure) {
+                out.append(",\"code\":").append(Integer.toString(((CodedFailure) reason).code().code()));
+            } else if (reason instanceof ExceptionalFailure) {
+                out.append(",\"exceptionType\":");
+                writeString(((ExceptionalFailure) reason).exceptionType().getName(), out);
+            }
+            final Collection<Failure> causes = causesOf(reason);
+            if (Objects.isNull(causes)) {
+                out.append('}');
+            } else if (depth >= maxDepth) {
+                out.append(",\"omittedCauses\":").append(Integer.toString(causes.size())).append('}');
+            } else {
+                out.append(",\"causes\":[");
+                path.addLast(new Frame(causes.iterator(), depth));
+            }
+        }
+    }
+
+    private static final class Frame {
+
+        private final Iterator<Failure> causes;
+        private final int depth;
+        private int written;
+        private int omitted;
+
+        private Frame(Iterator<Failure> causes, int depth) {
+            this.causes = causes;
+            this.depth = depth;
+        }
+    }
+}
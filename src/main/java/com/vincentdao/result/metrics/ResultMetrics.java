@@ -0,0 +1,108 @@
+package com.vincentdao.result.metrics;
+
+import com.vincentdao.result.ResultListener;
+import com.vincentdao.result.trace.CodedFailure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.Reason;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ResultListener} counting result outcomes, and the reasons added per {@link Reason} class and per
+ * {@link FailureCode}.
+ * <p>
+ * Counters are {@link LongAdder}s, so concurrent updates from many threads do not contend. Reads are not atomic
+ * snapshots across counters.
+ */
+public final class ResultMetrics implements ResultListener {
+
+    private final LongAdder createdSuccessful = new LongAdder();
+    private final LongAdder createdFailed = new LongAdder();
+    private final LongAdder failedTransitions = new LongAdder();
+    private final ConcurrentMap<Class<?>, LongAdder> reasonsByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FailureCode, LongAdder> failuresByCode = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCreated(boolean successful) {
+        (successful ? createdSuccessful : createdFailed).increment();
+    }
+
+    @Override
+    public void onFailed() {
+        failedTransitions.increment();
+    }
+
+    @Override
+    public void onReason(Reason reason) {
+        counter(reasonsByType, reason.getClass()).increment();
+        if (reason instanceof CodedFailure) {
+            counter(failuresByCode, ((CodedFailure) reason).code()).increment();
+        }
+    }
+
+    private static <K> LongAdder counter(ConcurrentMap<K, LongAdder> counters, K key) {
+        final LongAdder counter = counters.get(key);
+        return Objects.nonNull(counter) ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    /**
+     * Returns the number of results created successful.
+     */
+    public long createdSuccessful() {
+        return createdSuccessful.sum();
+    }
+
+    /**
+     * Returns the number of results created failed.
+     */
+    public long createdFailed() {
+        return createdFailed.sum();
+    }
+
+    /**
+     * Returns the number of successful results that became failed.
+     */
+    public long failedTransitions() {
+        return failedTransitions.sum();
+    }
+
+    /**
+     * Returns the number of reasons of exactly the given class added.
+     */
+    public long reasonCount(Class<? extends Reason> type) {
+        final LongAdder counter = reasonsByType.get(type);
+        return Objects.isNull(counter) ? 0 : counter.sum();
+    }
+
+    public long failureCodeCount(FailureCode code) {
+        final LongAdder counter = failuresByCode.get(code);
+        return Objects.isNull(counter) ? 0 : counter.sum();
+    }
+
+    public Map<Class<?>, Long> reasonCounts() {
+        return snapshot(reasonsByType);
+    }
+
+    public Map<FailureCode, Long> failureCodeCounts() {
+        return snapshot(failuresByCode);
+    }
+
+    private static <K> Map<K, Long> snapshot(ConcurrentMap<K, LongAdder> counters) {
+        final Map<K, Long> snapshot = new HashMap<>();
+        counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    public void reset() {
+        createdSuccessful.reset();
+        createdFailed.reset();
+        failedTransitions.reset();
+        reasonsByType.clear();
+        failuresByCode.clear();
+    }
+}
@@ -0,0 +1,253 @@
+package com.vincentdao.result.retry;
+
+import com.vincentdao.result.AsyncResult;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Runs a {@link Result}-returning operation until it succeeds, retrying failed attempts with exponential backoff.
+ * <p>
+ * Attempts run on a {@link ScheduledExecutorService}, the delays between them being scheduled rather than slept, so no
+ * thread is blocked while waiting. The delay before attempt {@code n + 1} is
+ * {@code min(initialDelay * multiplier^(n - 1), maxDelay)}, reduced by a random share of at most {@code jitter} of it
+ * so that clients failing together do not retry together.
+ * <p>
+ * A failed attempt is retried if any of its failures matches the retry predicate (every failure by default) and the
+ * maximum number of attempts is not reached. An exception thrown by the operation counts as a failed attempt with an
+ * {@link ExceptionalFailure}. A failed attempt without any {@link Failure} is given a {@link DefaultFailure} stating
+ * so, which the retry predicate is tested against, so it is retried by default. The first successful {@code Result}
+ * is returned as is. Otherwise, the returned {@code Result} holds a single {@link Failure} caused by the failures of
+ * every attempt, in attempt order.
+ * <p>
+ * {@code Retry} instances are immutable and safe to share between threads.
+ */
+public final class Retry {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10);
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private static final Retry DEFAULT = new Retry(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_DELAY.toNanos(),
+            DEFAULT_MULTIPLIER, DEFAULT_MAX_DELAY.toNanos(), DEFAULT_JITTER, failure -> true);
+
+    /**
+     * Returns a retry with the default policy.
+     */
+    public static Retry create() {
+        return DEFAULT;
+    }
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final Predicate<? super Failure> retryOn;
+
+    private Retry(int maxAttempts, long initialDelayNanos, double multiplier, long maxDelayNanos, double jitter,
+                  Predicate<? super Failure> retryOn) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.multiplier = multiplier;
+        this.maxDelayNanos = maxDelayNanos;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+    }
+
+    /**
+     * Returns a retry making at most the given number of attempts, the first one included.
+     */
+    public Retry withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive.");
+        }
+        return new Retry(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryOn);
+    }
+
+    /**
+     * Returns a retry waiting {@code initialDelay} before the second attempt, multiplying the delay by
+     * {@code multiplier} for each following attempt, up to {@code maxDelay}.
+     */
+    public Retry withBackoff(Duration initialDelay, double multiplier, Duration maxDelay) {
+        if (Objects.isNull(initialDelay)) {
+            throw new NullPointerException("Initial delay must be defined.");
+        }
+        if (Objects.isNull(maxDelay)) {
+            throw new NullPointerException("Max delay must be defined.");
+        }
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("Delays must not be negative, and max delay not below initial delay.");
+        }
+        if (!(multiplier >= 1.0)) {
+            throw new IllegalArgumentException("Multiplier must be at least 1.");
+        }
+        return new Retry(maxAttempts, initialDelay.toNanos(), multiplier, maxDelay.toNanos(), jitter, retryOn);
+    }
+
+    /**
+     * Returns a retry reducing each delay by a random share of at most {@code jitter} of it, from {@code 0} for fixed
+     * delays to {@code 1} for delays drawn uniformly between zero and the backoff delay.
+     */
+    public Retry withJitter(double jitter) {
+        if (!(jitter >= 0.0 && jitter <= 1.0)) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1.");
+        }
+        return new Retry(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryOn);
+    }
+
+    /**
+     * Returns a retry retrying only attempts with a {@link Failure} matching the predicate.
+     */
+    public Retry withRetryOn(Predicate<? super Failure> retryOn) {
+        if (Objects.isNull(retryOn)) {
+            throw new NullPointerException("Retry predicate must be defined.");
+        }
+        return new Retry(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryOn);
+    }
+
+    /**
+     * Returns a retry retrying only attempts with a {@link Failure} of the given type, or of one of its subtypes.
+     */
+    public Retry withRetryOnFailure(Class<? extends Failure> type) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Failure type must be defined.");
+        }
+        return withRetryOn(type::isInstance);
+    }
+
+    /**
+     * Returns a retry retrying only attempts with an {@link ExceptionalFailure} of the given exception type, or of one
+     * of its subtypes.
+     */
+    public Retry withRetryOnException(Class<? extends Exception> type) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Exception type must be defined.");
+        }
+        return withRetryOn(failure -> failure instanceof ExceptionalFailure
+                && type.isAssignableFrom(((ExceptionalFailure) failure).exceptionType()));
+    }
+
+    /**
+     * Runs the operation on the scheduler, retrying it as configured. The first attempt is submitted immediately.
+     */
+    public <T> AsyncResult<T> run(Supplier<? extends Result<T>> operation, ScheduledExecutorService scheduler) {
+        if (Objects.isNull(operation)) {
+            throw new NullPointerException("Operation must be defined.");
+        }
+        if (Objects.isNull(scheduler)) {
+            throw new NullPointerException("Scheduler must be defined.");
+        }
+        final Execution<T> execution = new Execution<>(operation, scheduler);
+        execution.schedule(0L);
+        return AsyncResult.from(execution.future);
+    }
+
+    long delayNanos(int attempt) {
+        final double backoff = Math.min(initialDelayNanos * Math.pow(multiplier, attempt - 1), maxDelayNanos);
+        final double reduction = jitter == 0.0 ? 0.0 : backoff * jitter * ThreadLocalRandom.current().nextDouble();
+        return (long) (backoff - reduction);
+    }
+
+    /**
+     * The state of one {@link #run(Supplier, ScheduledExecutorService)}. Attempts run one after the other, each
+     * scheduled by the previous one, so the state is only accessed by one thread at a time.
+     */
+    private final class Execution<T> implements Runnable {
+
+        private final Supplier<? extends Result<T>> operation;
+        private final ScheduledExecutorService scheduler;
+        private final CompletableFuture<Result<T>> future = new CompletableFuture<>();
+        private final List<Failure> failures = new ArrayList<>();
+        private int attempt;
+
+        private Execution(Supplier<? extends Result<T>> operation, ScheduledExecutorService scheduler) {
+            this.operation = operation;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            attempt++;
+            final Result<T> result;
+            try {
+                result = attempt();
+            } catch (Error e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+            if (result.isSuccessful()) {
+                future.complete(result);
+                return;
+            }
+            final List<Failure> attemptFailures = failuresOf(result);
+            failures.addAll(attemptFailures);
+            if (attempt >= maxAttempts || !isRetryable(attemptFailures)) {
+                completeFailed();
+                return;
+            }
+            schedule(delayNanos(attempt));
+        }
+
+        private Result<T> attempt() {
+            final Result<T> result;
+            try {
+                result = operation.get();
+            } catch (Exception e) {
+                return Result.<T>failed().withExceptionalFailure(e);
+            }
+            if (Objects.isNull(result)) {
+                return Result.<T>failed().withFailureMessage("Supplied result must be defined.");
+            }
+            return result;
+        }
+
+        private List<Failure> failuresOf(Result<T> result) {
+            final List<Failure> attemptFailures = result.failuresView();
+            if (attemptFailures.isEmpty()) {
+                return Collections.singletonList(new DefaultFailure("Attempt " + attempt + " failed without failure."));
+            }
+            return attemptFailures;
+        }
+
+        private boolean isRetryable(List<Failure> attemptFailures) {
+            for (Failure failure : attemptFailures) {
+                if (retryOn.test(failure)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void schedule(long delayNanos) {
+            try {
+                scheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                failures.add(new ExceptionalFailure(e));
+                completeFailed();
+            }
+        }
+
+        private void completeFailed() {
+            final Failure failure = new DefaultFailure("Failed after " + attempt
+                    + (attempt == 1 ? " attempt." : " attempts."));
+            failure.causedBy(failures);
+            future.complete(Result.<T>failed().withFailure(failure));
+        }
+    }
+}
@@ -15,11 +15,28 @@ public abstract class BaseFailure implements Failure {
         this.reasons = new ArrayList<>();
     }
 
+    /**
+     * Keeps the causes within the given capacity, see {@link #droppedCauseCount()}.
+     */
+    protected BaseFailure(ReasonCapacity causeCapacity) {
+        if (Objects.isNull(causeCapacity)) {
+            throw new NullPointerException("Cause capacity must be defined.");
+        }
+        this.reasons = causeCapacity.isBounded() ? new BoundedCauses(causeCapacity) : new ArrayList<>();
+    }
+
     @Override
     public Collection<Failure> reasons() {
         return reasons;
     }
 
+    /**
+     * Returns the number of causes dropped because of the cause capacity.
+     */
+    public long droppedCauseCount() {
+        return reasons instanceof BoundedCauses ? ((BoundedCauses) reasons).dropped() : 0;
+    }
+
     @Override
     public void causedBy(Failure failure) {
         if (Objects.isNull(failure)) {
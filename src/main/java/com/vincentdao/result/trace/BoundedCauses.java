@@ -0,0 +1,113 @@
+package com.vincentdao.result.trace;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cause collection of a {@link BaseFailure} applying a bounded {@link ReasonCapacity}.
+ * <p>
+ * Causes are kept in a ring of at most {@code limit} slots, starting at {@code head}: evicting the oldest cause only
+ * moves the head. Removing a cause through the iterator first puts the ring back in order from slot 0, so
+ * {@link BaseFailure#reasons()} stays as mutable as the unbounded list.
+ */
+final class BoundedCauses extends AbstractCollection<Failure> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final ReasonCapacity capacity;
+    private Failure[] elements = new Failure[0];
+    private int head;
+    private int size;
+    private long seen;
+    private long dropped;
+
+    BoundedCauses(ReasonCapacity capacity) {
+        this.capacity = capacity;
+    }
+
+    long dropped() {
+        return dropped;
+    }
+
+    @Override
+    public boolean add(Failure failure) {
+        seen++;
+        final int limit = capacity.limit();
+        if (size < limit) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, Math.min(limit, Math.max(INITIAL_CAPACITY, size << 1)));
+            }
+            elements[size++] = failure;
+            return true;
+        }
+        dropped++;
+        switch (capacity.overflow()) {
+            case KEEP_LAST:
+                elements[head] = failure;
+                head = (head + 1) % limit;
+                return true;
+            case SAMPLE:
+                final long slot = ThreadLocalRandom.current().nextLong(seen);
+                if (slot < limit) {
+                    elements[(int) slot] = failure;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public Iterator<Failure> iterator() {
+        return new Iterator<Failure>() {
+            private int index;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Failure next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                last = index;
+                return elements[(head + index++) % size];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                removeAt(last);
+                index = last;
+                last = -1;
+            }
+        };
+    }
+
+    private void removeAt(int index) {
+        if (head != 0) {
+            final Failure[] ordered = new Failure[elements.length];
+            for (int i = 0; i < size; i++) {
+                ordered[i] = elements[(head + i) % size];
+            }
+            elements = ordered;
+            head = 0;
+        }
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
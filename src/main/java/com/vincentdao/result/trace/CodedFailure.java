@@ -0,0 +1,54 @@
+package com.vincentdao.result.trace;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Immutable {@link Failure} identified by a {@link FailureCode}.
+ * <p>
+ * There is one {@code CodedFailure} per code, shared by every result reporting it (see {@link FailureCode#failure()}).
+ * Since it is shared, it cannot have causes: wrap it in another {@link Failure} to attach causes.
+ */
+public final class CodedFailure implements Failure {
+
+    private final FailureCode code;
+
+    CodedFailure(FailureCode code) {
+        this.code = code;
+    }
+
+    public FailureCode code() {
+        return code;
+    }
+
+    @Override
+    public String message() {
+        return code.message();
+    }
+
+    @Override
+    public Collection<Failure> reasons() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since a {@code CodedFailure} is shared.
+     */
+    @Override
+    public void causedBy(Failure failure) {
+        throw new UnsupportedOperationException("Coded failures are shared and cannot have causes.");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since a {@code CodedFailure} is shared.
+     */
+    @Override
+    public void causedBy(Collection<Failure> failures) {
+        throw new UnsupportedOperationException("Coded failures are shared and cannot have causes.");
+    }
+
+    @Override
+    public String toString() {
+        return code.toString();
+    }
+}
@@ -17,6 +17,17 @@ public final class DefaultFailure extends BaseFailure {
         this.message = message.trim();
     }
 
+    /**
+     * Creates a {@code DefaultFailure} keeping its causes within the given capacity.
+     */
+    public DefaultFailure(String message, ReasonCapacity causeCapacity) {
+        super(causeCapacity);
+        if (Objects.isNull(message)) {
+            throw new NullPointerException("Message must be defined.");
+        }
+        this.message = message.trim();
+    }
+
     @Override
     public String message() {
         return message;
@@ -0,0 +1,88 @@
+package com.vincentdao.result.trace;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Maps caught exceptions to {@link Failure}s, for example to report a custom {@link Failure} subtype or a
+ * {@link FailureCode} instead of an {@link ExceptionalFailure}.
+ * <p>
+ * A mapping registered for an exception type also applies to its subtypes, the mapping of the nearest superclass
+ * winning. Exceptions without mapping become {@link ExceptionalFailure}s. The mapping resolved for an exception class
+ * is cached in a {@link ClassValue}, so the class hierarchy is only walked on the first exception of each class.
+ * <p>
+ * A classifier is immutable: {@link #map(Class, Function)} and {@link #map(Class, FailureCode)} return a new one.
+ */
+public final class ExceptionClassifier {
+
+    private static final Function<Exception, Failure> DEFAULT_MAPPER = ExceptionalFailure::new;
+
+    private static final ExceptionClassifier DEFAULTS = new ExceptionClassifier(new HashMap<>());
+
+    /**
+     * Returns the classifier mapping every exception to an {@link ExceptionalFailure}.
+     */
+    public static ExceptionClassifier defaults() {
+        return DEFAULTS;
+    }
+
+    private final Map<Class<?>, Function<Exception, ? extends Failure>> mappers;
+
+    private final ClassValue<Function<Exception, ? extends Failure>> resolved =
+            new ClassValue<Function<Exception, ? extends Failure>>() {
+                @Override
+                protected Function<Exception, ? extends Failure> computeValue(Class<?> type) {
+                    for (Class<?> current = type; Objects.nonNull(current); current = current.getSuperclass()) {
+                        final Function<Exception, ? extends Failure> mapper = mappers.get(current);
+                        if (Objects.nonNull(mapper)) {
+                            return mapper;
+                        }
+                    }
+                    return DEFAULT_MAPPER;
+                }
+            };
+
+    private ExceptionClassifier(Map<Class<?>, Function<Exception, ? extends Failure>> mappers) {
+        this.mappers = mappers;
+    }
+
+    /**
+     * Returns a classifier mapping exceptions of the given type, or of one of its subtypes, with the mapper.
+     */
+    public <E extends Exception> ExceptionClassifier map(Class<E> type, Function<? super E, ? extends Failure> mapper) {
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Exception type must be defined.");
+        }
+        if (Objects.isNull(mapper)) {
+            throw new NullPointerException("Mapper must be defined.");
+        }
+        final Map<Class<?>, Function<Exception, ? extends Failure>> copy = new HashMap<>(mappers);
+        copy.put(type, exception -> mapper.apply(type.cast(exception)));
+        return new ExceptionClassifier(copy);
+    }
+
+    /**
+     * Returns a classifier mapping exceptions of the given type, or of one of its subtypes, to the shared
+     * {@link CodedFailure} of the code.
+     */
+    public ExceptionClassifier map(Class<? extends Exception> type, FailureCode code) {
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        final CodedFailure failure = code.failure();
+        return map(type, exception -> failure);
+    }
+
+    public Failure classify(Exception exception) {
+        if (Objects.isNull(exception)) {
+            throw new NullPointerException("Exception must be defined.");
+        }
+        final Failure failure = resolved.get(exception.getClass()).apply(exception);
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Mapped failure must be defined.");
+        }
+        return failure;
+    }
+}
@@ -12,25 +12,100 @@ import java.util.Objects;
  * The message retrieved by the <code>message()</code> method originates from the {@link Exception}'s
  * <code>getMessage()</code> method. The return value of <code>message()</code> may be {@code null} if no message was
  * provided when the {@link Exception} was created.
+ * <p>
+ * When only the type and message of an exception are of interest, {@link #of(Class, String)} and
+ * {@link #stackless(Class, String)} create an {@code ExceptionalFailure} without paying for the stack trace of a fully
+ * constructed {@link Exception}.
  */
 public class ExceptionalFailure extends BaseFailure {
 
-    private final Exception exception;
+    private static volatile boolean captureStackTraces = false;
+
+    /**
+     * Sets whether {@link #of(Class, String)} captures the stack trace at the point of creation.
+     * <p>
+     * Disabled by default. Enabling it is intended for debugging, as capturing the stack trace is the dominant cost of
+     * creating an {@code ExceptionalFailure}.
+     */
+    public static void setCaptureStackTraces(boolean captureStackTraces) {
+        ExceptionalFailure.captureStackTraces = captureStackTraces;
+    }
+
+    public static boolean isCaptureStackTraces() {
+        return captureStackTraces;
+    }
+
+    /**
+     * Creates an {@code ExceptionalFailure} recording the exception type and message, capturing the stack trace only
+     * if enabled through {@link #setCaptureStackTraces(boolean)}.
+     */
+    public static ExceptionalFailure of(Class<? extends Exception> type, String message) {
+        if (captureStackTraces) {
+            return new ExceptionalFailure(new RecordedException(type, message, true));
+        }
+        return stackless(type, message);
+    }
+
+    /**
+     * Creates an {@code ExceptionalFailure} recording the exception type and message without a stack trace.
+     * <p>
+     * The {@link Exception} returned by {@link #exception()} is a {@link RecordedException}, only created when first
+     * requested.
+     */
+    public static ExceptionalFailure stackless(Class<? extends Exception> type, String message) {
+        return new ExceptionalFailure(type, message);
+    }
+
+    private final Class<? extends Exception> type;
+    private final String message;
+    private Exception exception;
 
     public ExceptionalFailure(Exception exception) {
         super();
         if (Objects.isNull(exception)) {
             throw new NullPointerException("Exception must be defined.");
         }
+        this.type = null;
+        this.message = null;
         this.exception = exception;
     }
 
+    /**
+     * Records the exception type and message without an {@link Exception}, as {@link #stackless(Class, String)} does.
+     * The {@link Exception} returned by {@link #exception()} is a {@link RecordedException} without a stack trace,
+     * only created when first requested.
+     */
+    protected ExceptionalFailure(Class<? extends Exception> type, String message) {
+        super();
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Exception type must be defined.");
+        }
+        this.type = type;
+        this.message = message;
+    }
+
     @Override
     public String message() {
-        return exception.getMessage();
+        return Objects.isNull(type) ? exception.getMessage() : message;
     }
 
     public Exception exception() {
+        if (Objects.isNull(exception)) {
+            exception = new RecordedException(type, message, false);
+        }
         return exception;
     }
+
+    /**
+     * Returns the type of the encapsulated exception, which is the recorded type for {@link RecordedException}s.
+     */
+    public Class<? extends Exception> exceptionType() {
+        if (Objects.nonNull(type)) {
+            return type;
+        }
+        if (exception instanceof RecordedException) {
+            return ((RecordedException) exception).type();
+        }
+        return exception.getClass();
+    }
 }
@@ -0,0 +1,83 @@
+package com.vincentdao.result.trace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Identifies a kind of {@link Failure} by an {@code int} code, registered once in a process-wide catalog.
+ * <p>
+ * Each {@code FailureCode} holds a single, shared {@link CodedFailure} (see {@link #failure()}), so reporting a coded
+ * failure does not allocate. There is one {@code FailureCode} instance per code, so codes can be compared by
+ * identity.
+ */
+public final class FailureCode {
+
+    private static final ConcurrentMap<Integer, FailureCode> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the code with the given message and returns it. Registering the same code with the same message again
+     * returns the registered {@code FailureCode}.
+     *
+     * @throws IllegalArgumentException if the code is already registered with another message.
+     */
+    public static FailureCode register(int code, String message) {
+        if (Objects.isNull(message)) {
+            throw new NullPointerException("Message must be defined.");
+        }
+        final FailureCode registered = REGISTRY.computeIfAbsent(code, key -> new FailureCode(key, message.trim()));
+        if (!registered.message.equals(message.trim())) {
+            throw new IllegalArgumentException("Failure code " + code + " is already registered with message: "
+                    + registered.message);
+        }
+        return registered;
+    }
+
+    public static Optional<FailureCode> lookup(int code) {
+        return Optional.ofNullable(REGISTRY.get(code));
+    }
+
+    /**
+     * Returns the registered codes, ordered by code.
+     */
+    public static List<FailureCode> registered() {
+        final List<FailureCode> codes = new ArrayList<>(REGISTRY.values());
+        codes.sort(Comparator.comparingInt(FailureCode::code));
+        return Collections.unmodifiableList(codes);
+    }
+
+    private final int code;
+    private final String message;
+    private final CodedFailure failure;
+
+    private FailureCode(int code, String message) {
+        this.code = code;
+        this.message = message;
+        this.failure = new CodedFailure(this);
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Returns the shared {@link Failure} of this code.
+     */
+    public CodedFailure failure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return code + ": " + message;
+    }
+}
@@ -0,0 +1,211 @@
+package com.vincentdao.result.trace;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Traverses the tree formed by a {@link Failure} and its own failed reasons, as added through
+ * {@link Failure#causedBy(Failure)}.
+ * <p>
+ * Traversals are iterative, so arbitrarily deep cause chains do not overflow the stack. Each {@code Failure} is
+ * visited once, compared by identity: a {@code Failure} reachable through several paths, or added as its own
+ * (indirect) cause, is not visited again. With a max depth, a {@code Failure} is within it if any path to it is, even
+ * if it was first reached through a longer path. The returned streams are lazy and walk the tree as they are consumed;
+ * the tree must not be modified while a stream over it is being consumed.
+ */
+public final class FailureTree {
+
+    private FailureTree() {
+    }
+
+    /**
+     * Returns the {@code Failure} and all its causes, in depth-first pre-order: each {@code Failure} is followed by
+     * its causes, in the order they were added.
+     */
+    public static Stream<Failure> depthFirst(Failure failure) {
+        return depthFirst(failure, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the {@code Failure} and its causes up to the given depth, in depth-first pre-order. The
+     * {@code Failure} itself is at depth {@code 0} and its direct causes are at depth {@code 1}.
+     */
+    public static Stream<Failure> depthFirst(Failure failure, int maxDepth) {
+        return traverse(failure, maxDepth, true);
+    }
+
+    /**
+     * Returns the {@code Failure} and all its causes, level by level.
+     */
+    public static Stream<Failure> breadthFirst(Failure failure) {
+        return breadthFirst(failure, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the {@code Failure} and its causes up to the given depth, level by level. The {@code Failure} itself is
+     * at depth {@code 0} and its direct causes are at depth {@code 1}.
+     */
+    public static Stream<Failure> breadthFirst(Failure failure, int maxDepth) {
+        return traverse(failure, maxDepth, false);
+    }
+
+    /**
+     * Returns the root cause of the {@code Failure}, found by following the first cause of each {@code Failure} until
+     * one has no cause. Returns the {@code Failure} itself if it has no cause. If the chain loops back, the last
+     * {@code Failure} before the loop is returned.
+     */
+    public static Failure rootCause(Failure failure) {
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Failure must be defined.");
+        }
+        final Set<Failure> visited = newIdentitySet();
+        Failure current = failure;
+        visited.add(current);
+        while (true) {
+            final Failure cause = firstCause(current);
+            if (Objects.isNull(cause) || !visited.add(cause)) {
+                return current;
+            }
+            current = cause;
+        }
+    }
+
+    /**
+     * Returns the failures of the tree that have no cause, in depth-first order. Unlike {@link #rootCause(Failure)},
+     * which follows the first cause only, these are the leaves reached through every cause.
+     */
+    public static Stream<Failure> leafCauses(Failure failure) {
+        return depthFirst(failure).filter(FailureTree::hasNoCause);
+    }
+
+    private static Stream<Failure> traverse(Failure failure, int maxDepth, boolean depthFirst) {
+        if (Objects.isNull(failure)) {
+            throw new NullPointerException("Failure must be defined.");
+        }
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Max depth must not be negative.");
+        }
+        return StreamSupport.stream(new TraversalSpliterator(failure, maxDepth, depthFirst), false);
+    }
+
+    private static Failure firstCause(Failure failure) {
+        final Collection<Failure> causes = failure.reasons();
+        if (Objects.isNull(causes)) {
+            return null;
+        }
+        for (Failure cause : causes) {
+            if (Objects.nonNull(cause)) {
+                return cause;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasNoCause(Failure failure) {
+        return Objects.isNull(firstCause(failure));
+    }
+
+    private static Set<Failure> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static final class Node {
+
+        private final Failure failure;
+        private final int depth;
+
+        private Node(Failure failure, int depth) {
+            this.failure = failure;
+            this.depth = depth;
+        }
+    }
+
+    private static final class TraversalSpliterator extends Spliterators.AbstractSpliterator<Failure> {
+
+        private final int maxDepth;
+        private final boolean depthFirst;
+        private final ArrayDeque<Node> pending = new ArrayDeque<>();
+        private final Set<Failure> visited = newIdentitySet();
+        /**
+         * The smallest depth each {@code Failure} had its causes enqueued at, only kept with a max depth: a
+         * {@code Failure} first reached near the max depth has its causes enqueued again when reached closer to the
+         * root, so the sub-tree it shares with that shorter path is not cut off.
+         */
+        private final Map<Failure, Integer> expandedDepths = new IdentityHashMap<>();
+
+        private TraversalSpliterator(Failure root, int maxDepth, boolean depthFirst) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.maxDepth = maxDepth;
+            this.depthFirst = depthFirst;
+            pending.add(new Node(root, 0));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Failure> action) {
+            while (true) {
+                final Node node = depthFirst ? pending.pollLast() : pending.pollFirst();
+                if (Objects.isNull(node)) {
+                    return false;
+                }
+                final boolean first = visited.add(node.failure);
+                if (first ? node.depth < maxDepth : isExpandedDeeper(node.failure, node.depth)) {
+                    if (maxDepth != Integer.MAX_VALUE) {
+                        expandedDepths.put(node.failure, node.depth);
+                    }
+                    enqueueCauses(node);
+                }
+                if (first) {
+                    action.accept(node.failure);
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Whether the visited {@code Failure} reached again at the given depth has its causes within the max depth
+         * only through this path.
+         */
+        private boolean isExpandedDeeper(Failure failure, int depth) {
+            if (maxDepth == Integer.MAX_VALUE || depth >= maxDepth) {
+                return false;
+            }
+            final Integer expandedDepth = expandedDepths.get(failure);
+            return Objects.isNull(expandedDepth) || expandedDepth > depth;
+        }
+
+        private void enqueueCauses(Node node) {
+            final Collection<Failure> causes = node.failure.reasons();
+            if (Objects.isNull(causes) || causes.isEmpty()) {
+                return;
+            }
+            final int depth = node.depth + 1;
+            if (depthFirst) {
+                // Pushed in reverse, so that the first cause is visited first.
+                final Object[] array = causes.toArray();
+                for (int i = array.length - 1; i >= 0; i--) {
+                    enqueue((Failure) array[i], depth);
+                }
+            } else {
+                for (Failure cause : causes) {
+                    enqueue(cause, depth);
+                }
+            }
+        }
+
+        private void enqueue(Failure cause, int depth) {
+            if (Objects.nonNull(cause) && (!visited.contains(cause) || isExpandedDeeper(cause, depth))) {
+                pending.addLast(new Node(cause, depth));
+            }
+        }
+    }
+}
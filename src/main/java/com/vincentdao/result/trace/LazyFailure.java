@@ -0,0 +1,33 @@
+package com.vincentdao.result.trace;
+
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link Failure} whose message is only built, trimmed and memoized on first access to
+ * {@link #message()}.
+ * <p>
+ * Arguments of a template are formatted on first access, not when the {@code LazyFailure} is created, so they should
+ * not be modified afterwards.
+ */
+public final class LazyFailure extends BaseFailure {
+
+    private final LazyMessage message;
+
+    /**
+     * Creates a {@code LazyFailure} whose message is formatted as by {@link String#format(String, Object...)}.
+     */
+    public LazyFailure(String template, Object... args) {
+        super();
+        this.message = LazyMessage.ofTemplate(template, args);
+    }
+
+    public LazyFailure(Supplier<String> message) {
+        super();
+        this.message = LazyMessage.ofSupplier(message);
+    }
+
+    @Override
+    public String message() {
+        return message.get();
+    }
+}
@@ -0,0 +1,59 @@
+package com.vincentdao.result.trace;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Renders a message on first access, then memoizes it.
+ * <p>
+ * Concurrent first accesses may render the message more than once, any of the renderings being kept. Formatting a
+ * template has no side effect, but a supplier is then called more than once, so suppliers should not have side
+ * effects either and should return equal messages.
+ */
+final class LazyMessage {
+
+    static LazyMessage ofTemplate(String template, Object[] args) {
+        if (Objects.isNull(template)) {
+            throw new NullPointerException("Message template must be defined.");
+        }
+        return new LazyMessage(template, args, null);
+    }
+
+    static LazyMessage ofSupplier(Supplier<String> supplier) {
+        if (Objects.isNull(supplier)) {
+            throw new NullPointerException("Message supplier must be defined.");
+        }
+        return new LazyMessage(null, null, supplier);
+    }
+
+    private final String template;
+    private final Object[] args;
+    private final Supplier<String> supplier;
+    private volatile String message;
+
+    private LazyMessage(String template, Object[] args, Supplier<String> supplier) {
+        this.template = template;
+        this.args = args;
+        this.supplier = supplier;
+    }
+
+    String get() {
+        String rendered = message;
+        if (Objects.isNull(rendered)) {
+            rendered = render();
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    private String render() {
+        if (Objects.isNull(supplier)) {
+            return String.format(template, args).trim();
+        }
+        final String supplied = supplier.get();
+        if (Objects.isNull(supplied)) {
+            throw new NullPointerException("Message must be defined.");
+        }
+        return supplied.trim();
+    }
+}
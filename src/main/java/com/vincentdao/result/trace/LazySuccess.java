@@ -0,0 +1,31 @@
+package com.vincentdao.result.trace;
+
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link Success} whose message is only built, trimmed and memoized on first access to
+ * {@link #message()}.
+ * <p>
+ * Arguments of a template are formatted on first access, not when the {@code LazySuccess} is created, so they should
+ * not be modified afterwards.
+ */
+public final class LazySuccess implements Success {
+
+    private final LazyMessage message;
+
+    /**
+     * Creates a {@code LazySuccess} whose message is formatted as by {@link String#format(String, Object...)}.
+     */
+    public LazySuccess(String template, Object... args) {
+        this.message = LazyMessage.ofTemplate(template, args);
+    }
+
+    public LazySuccess(Supplier<String> message) {
+        this.message = LazyMessage.ofSupplier(message);
+    }
+
+    @Override
+    public String message() {
+        return message.get();
+    }
+}
@@ -0,0 +1,85 @@
+package com.vincentdao.result.trace;
+
+import java.util.Objects;
+
+/**
+ * Limits the number of reasons kept by a {@link com.vincentdao.result.Result}, or causes kept by a
+ * {@link BaseFailure}, and decides which ones are kept once the limit is reached.
+ * <p>
+ * Reasons left out are not kept but counted, so that the number of dropped reasons can be reported. Adding a
+ * {@link Failure} still makes a result failed, even if the failure itself is dropped.
+ */
+public final class ReasonCapacity {
+
+    /**
+     * Decides which reasons are kept once the limit is reached.
+     */
+    public enum Overflow {
+        /**
+         * Keeps the first reasons added, dropping the following ones.
+         */
+        KEEP_FIRST,
+        /**
+         * Keeps the last reasons added, evicting the oldest ones.
+         */
+        KEEP_LAST,
+        /**
+         * Keeps a uniform random sample of all the reasons added (reservoir sampling). The order of the kept reasons
+         * is not the order they were added in.
+         */
+        SAMPLE
+    }
+
+    private static final ReasonCapacity UNBOUNDED = new ReasonCapacity(Integer.MAX_VALUE, Overflow.KEEP_FIRST);
+
+    public static ReasonCapacity unbounded() {
+        return UNBOUNDED;
+    }
+
+    public static ReasonCapacity keepFirst(int limit) {
+        return of(limit, Overflow.KEEP_FIRST);
+    }
+
+    public static ReasonCapacity keepLast(int limit) {
+        return of(limit, Overflow.KEEP_LAST);
+    }
+
+    public static ReasonCapacity sample(int limit) {
+        return of(limit, Overflow.SAMPLE);
+    }
+
+    public static ReasonCapacity of(int limit, Overflow overflow) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Reason limit must be positive.");
+        }
+        if (Objects.isNull(overflow)) {
+            throw new NullPointerException("Overflow policy must be defined.");
+        }
+        return new ReasonCapacity(limit, overflow);
+    }
+
+    private final int limit;
+    private final Overflow overflow;
+
+    private ReasonCapacity(int limit, Overflow overflow) {
+        this.limit = limit;
+        this.overflow = overflow;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public Overflow overflow() {
+        return overflow;
+    }
+
+    public boolean isBounded() {
+        return this != UNBOUNDED;
+    }
+
+    @Override
+    public String toString() {
+        return isBounded() ? overflow + "(" + limit + ")" : "UNBOUNDED";
+    }
+}
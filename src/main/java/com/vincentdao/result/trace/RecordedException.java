@@ -0,0 +1,35 @@
+package com.vincentdao.result.trace;
+
+import java.util.Objects;
+
+/**
+ * An {@link Exception} standing in for an exception of another type, created by {@link ExceptionalFailure#of(Class,
+ * String)} and {@link ExceptionalFailure#stackless(Class, String)}.
+ * <p>
+ * Only the type and message of the original exception are recorded. The stack trace is empty unless stack trace
+ * capturing was enabled when the {@link ExceptionalFailure} was created.
+ */
+public final class RecordedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Class<? extends Exception> type;
+
+    RecordedException(Class<? extends Exception> type, String message, boolean captureStackTrace) {
+        super(message, null, false, captureStackTrace);
+        if (Objects.isNull(type)) {
+            throw new NullPointerException("Exception type must be defined.");
+        }
+        this.type = type;
+    }
+
+    public Class<? extends Exception> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        final String message = getLocalizedMessage();
+        return Objects.isNull(message) ? type.getName() : type.getName() + ": " + message;
+    }
+}
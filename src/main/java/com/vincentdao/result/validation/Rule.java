@@ -0,0 +1,18 @@
+package com.vincentdao.result.validation;
+
+import com.vincentdao.result.trace.Failure;
+
+/**
+ * A validation rule of a {@link Validator}.
+ *
+ * @param <T> The type of value validated.
+ */
+@FunctionalInterface
+public interface Rule<T> {
+
+    /**
+     * Returns the {@link Failure} of the value, or {@code null} if the value is valid, so that valid values do not
+     * allocate.
+     */
+    Failure check(T value);
+}
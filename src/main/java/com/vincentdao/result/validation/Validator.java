@@ -0,0 +1,287 @@
+package com.vincentdao.result.validation;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Validates a value against a list of {@link Rule}s, reporting the failures found in a single {@link Result}.
+ * <p>
+ * Failures are added to the returned {@code Result} as they are found, without building a {@code Result} per rule:
+ * a valid value costs a single successful {@code Result}. The rules are checked in the order they were added. Fields
+ * of the value are validated by nested validators (see {@link #withField(Function, Validator)}), whose rules report
+ * into the same {@code Result}.
+ * <p>
+ * In {@link Mode#ACCUMULATE} mode, the default, every rule is checked and all failures are reported. In
+ * {@link Mode#FAIL_FAST} mode, validation stops at the first failure. The mode of the validator
+ * {@code validate} is called on applies to its fields and groups as well.
+ * <p>
+ * Groups (see {@link #withGroup(Validator)}) are independent sets of rules, checked after the rules of this validator.
+ * {@link #validate(Object, Executor)} checks them concurrently instead, for expensive checks; their failures are still
+ * reported in the order the groups were added.
+ * <p>
+ * {@code Validator} instances are immutable and safe to share between threads, provided their rules are.
+ *
+ * @param <T> The type of value validated.
+ */
+public final class Validator<T> {
+
+    public enum Mode {
+        /**
+         * Checks every rule and reports all failures.
+         */
+        ACCUMULATE,
+        /**
+         * Stops at the first failure.
+         */
+        FAIL_FAST
+    }
+
+    private static final Validator<Object> EMPTY = empty();
+
+    @SuppressWarnings("unchecked")
+    private static Validator<Object> empty() {
+        return new Validator<>((Check<Object>[]) new Check<?>[0], (Validator<Object>[]) new Validator<?>[0],
+                Mode.ACCUMULATE);
+    }
+
+    /**
+     * Returns a validator without rules, accepting every value.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Validator<T> create() {
+        return (Validator<T>) EMPTY;
+    }
+
+    private final Check<? super T>[] checks;
+    private final Validator<? super T>[] groups;
+    private final Mode mode;
+
+    private Validator(Check<? super T>[] checks, Validator<? super T>[] groups, Mode mode) {
+        this.checks = checks;
+        this.groups = groups;
+        this.mode = mode;
+    }
+
+    public Validator<T> withRule(Rule<? super T> rule) {
+        if (Objects.isNull(rule)) {
+            throw new NullPointerException("Rule must be defined.");
+        }
+        return withCheck((value, sink) -> sink.add(rule.check(value)));
+    }
+
+    /**
+     * Adds a rule reporting a {@link DefaultFailure} with the message for values not matching the predicate.
+     */
+    public Validator<T> withRule(Predicate<? super T> predicate, String message) {
+        if (Objects.isNull(predicate)) {
+            throw new NullPointerException("Predicate must be defined.");
+        }
+        if (Objects.isNull(message)) {
+            throw new NullPointerException("Message must be defined.");
+        }
+        return withRule(value -> predicate.test(value) ? null : new DefaultFailure(message));
+    }
+
+    /**
+     * Adds a rule reporting the shared {@link com.vincentdao.result.trace.CodedFailure} of the code for values not
+     * matching the predicate.
+     */
+    public Validator<T> withRule(Predicate<? super T> predicate, FailureCode code) {
+        if (Objects.isNull(predicate)) {
+            throw new NullPointerException("Predicate must be defined.");
+        }
+        if (Objects.isNull(code)) {
+            throw new NullPointerException("Failure code must be defined.");
+        }
+        final Failure failure = code.failure();
+        return withRule(value -> predicate.test(value) ? null : failure);
+    }
+
+    /**
+     * Adds the rules and groups of the validator, checked against the field extracted from the value. The field may
+     * be {@code null}, which the rules of the validator must handle.
+     */
+    public <F> Validator<T> withField(Function<? super T, ? extends F> field, Validator<? super F> validator) {
+        if (Objects.isNull(field)) {
+            throw new NullPointerException("Field must be defined.");
+        }
+        if (Objects.isNull(validator)) {
+            throw new NullPointerException("Validator must be defined.");
+        }
+        return withCheck((value, sink) -> validator.run(field.apply(value), sink));
+    }
+
+    /**
+     * Adds the rules of the validator as an independent group, checked concurrently with the other groups by
+     * {@link #validate(Object, Executor)}.
+     */
+    public Validator<T> withGroup(Validator<? super T> group) {
+        if (Objects.isNull(group)) {
+            throw new NullPointerException("Group must be defined.");
+        }
+        final Validator<? super T>[] extended = Arrays.copyOf(groups, groups.length + 1);
+        extended[groups.length] = group;
+        return new Validator<>(checks, extended, mode);
+    }
+
+    public Validator<T> withMode(Mode mode) {
+        if (Objects.isNull(mode)) {
+            throw new NullPointerException("Mode must be defined.");
+        }
+        return new Validator<>(checks, groups, mode);
+    }
+
+    public Validator<T> failFast() {
+        return withMode(Mode.FAIL_FAST);
+    }
+
+    private Validator<T> withCheck(Check<? super T> check) {
+        final Check<? super T>[] extended = Arrays.copyOf(checks, checks.length + 1);
+        extended[checks.length] = check;
+        return new Validator<>(extended, groups, mode);
+    }
+
+    /**
+     * Returns a successful {@code Result} holding the value if it is valid, otherwise a failed one holding the
+     * failures found.
+     */
+    public Result<T> validate(T value) {
+        if (Objects.isNull(value)) {
+            throw new NullPointerException("Value must be defined.");
+        }
+        final Sink sink = new Sink(mode == Mode.FAIL_FAST ? new AtomicBoolean() : null);
+        run(value, sink);
+        return sink.toResult(value);
+    }
+
+    /**
+     * Validates the value as {@link #validate(Object)} does, checking the groups concurrently on the
+     * {@link Executor} while the rules of this validator are checked in the calling thread.
+     * <p>
+     * In {@link Mode#FAIL_FAST} mode, the first failure found stops all groups. A single failure is still reported,
+     * but it may not be the first one in the order the groups were added.
+     * <p>
+     * An exception thrown by a rule is rethrown in the calling thread.
+     */
+    public Result<T> validate(T value, Executor executor) {
+        if (Objects.isNull(value)) {
+            throw new NullPointerException("Value must be defined.");
+        }
+        if (Objects.isNull(executor)) {
+            throw new NullPointerException("Executor must be defined.");
+        }
+        final AtomicBoolean stopped = mode == Mode.FAIL_FAST ? new AtomicBoolean() : null;
+        final Sink[] groupSinks = new Sink[groups.length];
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            final Validator<? super T> group = groups[i];
+            final Sink groupSink = new Sink(stopped);
+            groupSinks[i] = groupSink;
+            futures[i] = CompletableFuture.runAsync(() -> group.run(value, groupSink), executor);
+        }
+        final Sink sink = new Sink(stopped);
+        runChecks(value, sink);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        for (Sink groupSink : groupSinks) {
+            sink.addAll(groupSink);
+        }
+        return sink.toResult(value);
+    }
+
+    private void run(T value, Sink sink) {
+        runChecks(value, sink);
+        for (Validator<? super T> group : groups) {
+            if (sink.isStopped()) {
+                return;
+            }
+            group.run(value, sink);
+        }
+    }
+
+    private void runChecks(T value, Sink sink) {
+        for (Check<? super T> check : checks) {
+            if (sink.isStopped()) {
+                return;
+            }
+            check.run(value, sink);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check<T> {
+
+        void run(T value, Sink sink);
+    }
+
+    /**
+     * Collects the failures of a validation into a failed {@code Result}, created on the first failure.
+     */
+    private static final class Sink {
+
+        /**
+         * Shared by the sinks of a fail-fast validation, {@code null} when accumulating.
+         */
+        private final AtomicBoolean stopped;
+        private Result<Object> failed;
+
+        private Sink(AtomicBoolean stopped) {
+            this.stopped = stopped;
+        }
+
+        private boolean isStopped() {
+            return Objects.nonNull(stopped) && stopped.get();
+        }
+
+        private void add(Failure failure) {
+            if (Objects.isNull(failure)) {
+                return;
+            }
+            if (Objects.isNull(failed)) {
+                failed = Result.failed();
+            }
+            failed.withFailure(failure);
+            if (Objects.nonNull(stopped)) {
+                stopped.set(true);
+            }
+        }
+
+        private void addAll(Sink other) {
+            if (Objects.isNull(other.failed) || (Objects.nonNull(failed) && Objects.nonNull(stopped))) {
+                return;
+            }
+            if (Objects.isNull(failed)) {
+                failed = other.failed;
+            } else {
+                failed.withFailures(other.failed.failuresView());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Result<T> toResult(T value) {
+            if (Objects.isNull(failed)) {
+                return Result.<T>successful().withValue(value);
+            }
+            return (Result<T>) (Result<?>) failed;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.vincentdao.result;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link Executor}s for running the blocking work behind results, such as the suppliers of
+ * {@link AsyncResult#supplyAsync(java.util.function.Supplier, Executor)}.
+ * <p>
+ * This is the Java 21 version of the class, running each task on a new virtual thread.
+ */
+public final class ResultExecutors {
+
+    private static final Executor VIRTUAL = Thread::startVirtualThread;
+
+    private ResultExecutors() {
+    }
+
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    public static Executor defaultExecutor() {
+        return VIRTUAL;
+    }
+
+    public static ExecutorService newTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,155 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks the bytes allocated per call of the hot operations.
+ * <p>
+ * Allocation is measured with the per-thread allocation counter of HotSpot, averaged over many calls after a warm-up,
+ * so the JIT has compiled the operation and applied escape analysis. The tests are skipped on JVMs without the
+ * counter.
+ * <p>
+ * Paths that must not allocate at all are always checked. The exact budgets of
+ * {@code allocation-budgets.properties} depend on the JVM (JIT, escape analysis, compressed oops), so they are only
+ * checked when the {@code allocation.budgets} system property is {@code true}, set by the {@code allocation-budgets}
+ * Maven profile, on the JVM configuration they were recorded with.
+ */
+final class AllocationTest {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 100_000;
+    /**
+     * The size of the smallest object, so that averages below it mean the path does not allocate.
+     */
+    private static final double SMALLEST_OBJECT_BYTES = 16.0;
+
+    private static final Properties BUDGETS = new Properties();
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    /**
+     * Keeps the returned values reachable, so the calls cannot be eliminated.
+     */
+    private static Object sink;
+
+    private final Integer value = 42;
+    private final String message = "Failure message.";
+    private final FailureCode failureCode = FailureCode.register(2201, "Coded failure.");
+    private final Result<Integer> failedResult = Result.<Integer>failed()
+            .withFailureMessage(message)
+            .withSuccessMessage(message)
+            .withFailureMessage(message)
+            .withSuccessMessage(message);
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        try (InputStream budgets = AllocationTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            BUDGETS.load(budgets);
+        }
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+    }
+
+    private static double bytesPerCall(Supplier<?> operation) {
+        final long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = operation.get();
+        }
+        final long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink = operation.get();
+        }
+        final long after = threads.getThreadAllocatedBytes(thread);
+        return (double) (after - before) / MEASURED_CALLS;
+    }
+
+    private static void assumeCounterAvailable() {
+        assumeTrue(threads != null && threads.isThreadAllocatedMemoryEnabled(),
+                "Per-thread allocation counter not available.");
+    }
+
+    private static void assertNoAllocation(String operation, Supplier<?> call) {
+        assumeCounterAvailable();
+        assertThat(bytesPerCall(call))
+                .as("Bytes allocated per call of %s", operation)
+                .isLessThan(SMALLEST_OBJECT_BYTES);
+    }
+
+    private static void assertWithinBudget(String operation, Supplier<?> call) {
+        assumeCounterAvailable();
+        final String budget = BUDGETS.getProperty(operation);
+        assertThat(budget)
+                .as("Allocation budget of %s", operation)
+                .isNotNull();
+        final double measured = bytesPerCall(call);
+        assertThat(measured)
+                .as("Bytes allocated per call of %s", operation)
+                .isLessThanOrEqualTo(Double.parseDouble(budget));
+    }
+
+    @Test
+    void givenSharedInstancesAndQueries_whenMeasured_thenNoAllocation() {
+        final Result<Integer> sharedFailed = Result.sharedFailed(failureCode.failure());
+        assertNoAllocation("result.successfulWithSharedNoValue", () -> Result.successful().withSharedNoValue());
+        assertNoAllocation("result.hasFailure", () -> failedResult.hasFailure(DefaultFailure.class));
+        assertNoAllocation("result.hasFailureCode", () -> sharedFailed.hasFailureCode(failureCode));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "allocation.budgets", matches = "true")
+    void givenSuccessfulCreation_whenMeasured_thenWithinBudget() {
+        assertWithinBudget("result.successfulWithValue", () -> Result.<Integer>successful().withValue(value));
+        assertWithinBudget("result.successfulWithNoValue", () -> Result.successful().withNoValue());
+        assertWithinBudget("result.successfulWithSharedNoValue", () -> Result.successful().withSharedNoValue());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "allocation.budgets", matches = "true")
+    void givenFailedCreation_whenMeasured_thenWithinBudget() {
+        assertWithinBudget("result.failedWithFailureMessage", () -> Result.<Integer>failed()
+                .withFailureMessage(message));
+        assertWithinBudget("result.failedWithFailureCode", () -> Result.<Integer>failed()
+                .withFailureCode(failureCode));
+        assertWithinBudget("result.failedWithStacklessExceptionalFailure", () -> Result.<Integer>failed()
+                .withExceptionalFailure(IllegalStateException.class, message));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "allocation.budgets", matches = "true")
+    void givenFailureChaining_whenMeasured_thenWithinBudget() {
+        assertWithinBudget("trace.failureChaining", () -> {
+            final Failure failure = new DefaultFailure(message);
+            failure.causedBy(new DefaultFailure(message));
+            return failure;
+        });
+        assertWithinBudget("trace.stacklessExceptionalFailure", () -> ExceptionalFailure.stackless(
+                IllegalStateException.class, message));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "allocation.budgets", matches = "true")
+    void givenReasonQueries_whenMeasured_thenWithinBudget() {
+        assertWithinBudget("result.failures", failedResult::failures);
+        assertWithinBudget("result.failuresView", failedResult::failuresView);
+        assertWithinBudget("result.hasFailure", () -> failedResult.hasFailure(DefaultFailure.class));
+        assertWithinBudget("result.mapFailed", () -> failedResult.map(Integer::toHexString));
+    }
+}
@@ -0,0 +1,171 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.ExceptionalFailure;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class AsyncResultTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenSupplier_whenSupplyAsync_thenCompletedWithResult() {
+        final Result<Integer> result = AsyncResult.supplyAsync(() -> Result.<Integer>successful().withValue(1),
+                        executor)
+                .thenMap(value -> value + 1)
+                .join();
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenThrowingSupplier_whenSupplyAsync_thenExceptionalFailure() {
+        final IllegalStateException exception = new IllegalStateException("Failure message.");
+        final Result<Integer> result = AsyncResult.<Integer>supplyAsync(() -> {
+            throw exception;
+        }, executor).join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .singleElement()
+                .isInstanceOfSatisfying(ExceptionalFailure.class, f -> assertThat(f.exception()).isSameAs(exception));
+    }
+
+    @Test
+    void givenRejectingExecutor_whenSupplyAsync_thenExceptionalFailure() {
+        final Result<Integer> result = AsyncResult.supplyAsync(() -> Result.<Integer>successful().withValue(1),
+                command -> {
+                    throw new RejectedExecutionException("Rejected.");
+                }).join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .singleElement()
+                .isInstanceOf(ExceptionalFailure.class);
+    }
+
+    @Test
+    void givenExceptionallyCompletedStage_whenFrom_thenExceptionalFailure() {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        final AsyncResult<Integer> asyncResult = AsyncResult.fromValue(future);
+        future.completeExceptionally(new IOException("Failure message."));
+        final Result<Integer> result = asyncResult.join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .singleElement()
+                .isInstanceOfSatisfying(ExceptionalFailure.class,
+                        f -> assertThat(f.exception()).isExactlyInstanceOf(IOException.class));
+    }
+
+    @Test
+    void givenThrowingMapper_whenThenMap_thenReasonsKeptAndExceptionalFailureAdded() {
+        final Result<Integer> result = AsyncResult.completed(Result.<Integer>successful()
+                        .withValue(1)
+                        .withSuccessMessage("Success message."))
+                .<Integer>thenMapAsync(value -> {
+                    throw new IllegalArgumentException("Failure message.");
+                }, executor)
+                .join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(2);
+    }
+
+    @Test
+    void givenSuccessfulResult_whenThenCompose_thenReasonsMerged() {
+        final Result<String> result = AsyncResult.completed(Result.<Integer>successful()
+                        .withValue(1)
+                        .withSuccessMessage("First."))
+                .thenCompose(value -> AsyncResult.supplyAsync(() -> Result.<String>successful()
+                        .withValue(String.valueOf(value))
+                        .withSuccessMessage("Second."), executor))
+                .thenFlatMap(value -> Result.<String>successful().withValue(value + "!"))
+                .join();
+        assertThat(result.value())
+                .isEqualTo("1!");
+        assertThat(result.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("First.", "Second.");
+    }
+
+    @Test
+    void givenFailedResult_whenThenCompose_thenShortCircuit() {
+        final Result<String> result = AsyncResult.completed(Result.<Integer>failed().withFailureMessage("Failed."))
+                .<String>thenCompose(value -> {
+                    throw new AssertionError("Mapper must not be applied.");
+                })
+                .join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .hasSize(1);
+    }
+
+    @Test
+    void givenFailedResultHoldingValue_whenThenComposeAndAddReason_thenSourceUnchanged() {
+        final Result<Integer> source = Result.<Integer>successful()
+                .withValue(1)
+                .withFailureMessage("Failure message.");
+        final Result<String> result = AsyncResult.completed(source)
+                .<String>thenCompose(value -> AsyncResult.completed(Result.<String>successful().withValue("Value")))
+                .join()
+                .withFailureMessage("Composed failure message.");
+        assertThat(result.failures())
+                .hasSize(2);
+        assertThat(result.rawValue())
+                .isNull();
+        assertThat(source.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("Failure message.");
+    }
+
+    @Test
+    void givenResults_whenAllOf_thenValuesAndReasonsMerged() {
+        final List<AsyncResult<Integer>> results = Arrays.asList(
+                AsyncResult.supplyAsync(() -> Result.<Integer>successful().withValue(1).withSuccessMessage("1"),
+                        executor),
+                AsyncResult.supplyAsync(() -> Result.<Integer>successful().withValue(2).withSuccessMessage("2"),
+                        executor));
+        final Result<List<Integer>> result = AsyncResult.allOf(results).join();
+        assertThat(result.value())
+                .containsExactly(1, 2);
+        assertThat(result.reasons())
+                .hasSize(2);
+    }
+
+    @Test
+    void givenFailedResult_whenAllOf_thenFailed() {
+        final List<AsyncResult<Integer>> results = Arrays.asList(
+                AsyncResult.completed(Result.<Integer>successful().withValue(1)),
+                AsyncResult.completed(Result.<Integer>failed().withFailureMessage("Failure message.")));
+        final Result<List<Integer>> result = AsyncResult.allOf(results).join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .hasSize(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.vincentdao.result;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class DoubleResultTest {
+
+    @Test
+    void givenDoubleResult_whenSuccessfulCreate_thenValid() {
+        final DoubleResult result = DoubleResult.successful(0.5);
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.valueAsDouble())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    void givenDoubleResult_whenAddFailure_thenFailed() {
+        final DoubleResult result = DoubleResult.successful(0.5)
+                .withFailureMessage("Failure message.");
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThatThrownBy(result::valueAsDouble)
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenDoubleResult_whenMap_thenValid() {
+        final DoubleResult result = DoubleResult.successful(2.5);
+        assertThat(result.map(value -> value * 2).valueAsDouble())
+                .isEqualTo(5.0);
+        assertThat(result.mapToInt(value -> (int) value).valueAsInt())
+                .isEqualTo(2);
+        assertThat(result.mapToLong(Math::round).valueAsLong())
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void givenDoubleResult_whenConvert_thenValid() {
+        assertThat(DoubleResult.from(Result.<Double>successful().withValue(0.25)).valueAsDouble())
+                .isEqualTo(0.25);
+        assertThat(DoubleResult.successful(0.25).boxed().value())
+                .isEqualTo(0.25);
+        assertThat(DoubleResult.failed().boxed().isFailed())
+                .isTrue();
+    }
+}
@@ -0,0 +1,185 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.Reason;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ImmutableResultTest {
+
+    @Test
+    void givenSuccessfulResult_whenAddFailure_thenOriginalUnchanged() {
+        final ImmutableResult<Integer> successful = ImmutableResult.successful(1)
+                .withSuccessMessage("Success message.");
+        final ImmutableResult<Integer> failed = successful.withFailureMessage("Failure message.");
+        assertThat(successful.isSuccessful())
+                .isTrue();
+        assertThat(successful.value())
+                .isEqualTo(1);
+        assertThat(successful.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success message.");
+        assertThat(failed.isFailed())
+                .isTrue();
+        assertThat(failed.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success message.", "Failure message.");
+        assertThatThrownBy(failed::value)
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(ImmutableResult.successful().withFailureMessage("Failure message.").isFailed())
+                .isTrue();
+        assertThat(ImmutableResult.successful().isSuccessful())
+                .isTrue();
+    }
+
+    @Test
+    void givenSharedHistory_whenBranch_thenEachBranchKeepsOwnReasons() {
+        ImmutableResult<Integer> base = ImmutableResult.successful(1);
+        for (int i = 0; i < 1000; i++) {
+            base = base.withSuccessMessage("Success " + i + ".");
+        }
+        final ImmutableResult<Integer> left = base.withFailureMessage("Left.");
+        final ImmutableResult<Integer> right = base.withSuccess(new DefaultSuccess("Right."));
+        assertThat(left.reasonCount())
+                .isEqualTo(1001);
+        assertThat(left.failureCount())
+                .isEqualTo(1);
+        assertThat(right.isSuccessful())
+                .isTrue();
+        assertThat(right.reasons().get(1000).message())
+                .isEqualTo("Right.");
+        assertThat(left.firstFailure())
+                .hasValueSatisfying(failure -> assertThat(failure.message()).isEqualTo("Left."));
+        assertThat(right.firstFailure())
+                .isEmpty();
+    }
+
+    @Test
+    void givenResult_whenQueryReasons_thenInInsertionOrder() {
+        final FailureCode code = FailureCode.register(2101, "Coded failure.");
+        final ImmutableResult<String> result = ImmutableResult.<String>failed()
+                .withFailure(new DefaultFailure("First."))
+                .withSuccessMessage("Success message.")
+                .withFailureCode(code)
+                .withReasons(Arrays.asList(new DefaultFailure("Second."), new DefaultSuccess("Third.")));
+        assertThat(result.failures())
+                .extracting(Failure::message)
+                .containsExactly("First.", "Coded failure.", "Second.");
+        assertThat(result.successes())
+                .hasSize(2);
+        assertThat(result.hasFailure(DefaultFailure.class))
+                .isTrue();
+        assertThat(result.hasFailureCode(code))
+                .isTrue();
+        assertThat(result.firstFailure())
+                .hasValueSatisfying(failure -> assertThat(failure.message()).isEqualTo("First."));
+        assertThat(ImmutableResult.failed())
+                .isSameAs(ImmutableResult.failed());
+        assertThatThrownBy(() -> result.reasons().clear())
+                .isExactlyInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void givenResult_whenMapAndFlatMap_thenReasonsShared() {
+        final ImmutableResult<Integer> result = ImmutableResult.successful(1)
+                .withSuccessMessage("First.");
+        final ImmutableResult<String> mapped = result.map(String::valueOf);
+        assertThat(mapped.value())
+                .isEqualTo("1");
+        assertThat(mapped.reasons())
+                .isEqualTo(result.reasons());
+        final ImmutableResult<Integer> flatMapped = result.flatMap(value -> ImmutableResult.successful(value + 1)
+                .withFailureMessage("Second."));
+        assertThat(flatMapped.isFailed())
+                .isTrue();
+        assertThat(flatMapped.reasons())
+                .extracting(Reason::message)
+                .containsExactly("First.", "Second.");
+        final ImmutableResult<Integer> failed = ImmutableResult.failed();
+        assertThat(failed.map(value -> value + 1))
+                .isSameAs(failed);
+    }
+
+    @Test
+    void givenMutableResult_whenConvert_thenRoundTrip() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success message.");
+        final ImmutableResult<Integer> immutable = ImmutableResult.from(result);
+        result.withFailureMessage("Failure message.");
+        assertThat(immutable.isSuccessful())
+                .isTrue();
+        assertThat(immutable.reasonCount())
+                .isEqualTo(1);
+        final Result<Integer> converted = immutable.toResult();
+        assertThat(converted.value())
+                .isEqualTo(1);
+        assertThat(converted.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success message.");
+        converted.withFailureMessage("Failure message.");
+        assertThat(immutable.isSuccessful())
+                .isTrue();
+        assertThat(ImmutableResult.from(result).toResult().isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenSameOperations_whenAppliedToBothResults_thenSameStatusValueAndReasons() {
+        final Failure failure = new DefaultFailure("Failure.");
+        final Reason success = new DefaultSuccess("Success.");
+        assertSameAsResult(result -> result.withReason(failure), result -> result.withReason(failure));
+        assertSameAsResult(result -> result.withReasons(Arrays.asList(success, failure)),
+                result -> result.withReasons(Arrays.asList(success, failure)));
+        assertSameAsResult(result -> result.withFailures(Collections.emptyList()),
+                result -> result.withFailures(Collections.emptyList()));
+        assertSameAsResult(result -> result.withFailure(failure), result -> result.withFailure(failure));
+        assertSameAsResult(result -> result.withFailureMessage("Failure."),
+                result -> result.withFailureMessage("Failure."));
+        assertSameAsResult(result -> result.withSuccessMessage("Success."),
+                result -> result.withSuccessMessage("Success."));
+    }
+
+    private static void assertSameAsResult(UnaryOperator<Result<Integer>> mutable,
+                                           UnaryOperator<ImmutableResult<Integer>> immutable) {
+        final Result<Integer> expected = mutable.apply(Result.<Integer>successful().withValue(1));
+        final Result<Integer> actual = immutable.apply(ImmutableResult.from(Result.<Integer>successful().withValue(1)))
+                .toResult();
+        assertThat(actual.isSuccessful())
+                .isEqualTo(expected.isSuccessful());
+        assertThat(actual.rawValue())
+                .isEqualTo(expected.rawValue());
+        final List<String> expectedMessages = expected.reasons()
+                .stream()
+                .map(Reason::message)
+                .collect(Collectors.toList());
+        assertThat(actual.reasons())
+                .extracting(Reason::message)
+                .containsExactlyElementsOf(expectedMessages);
+        assertThat(ImmutableResult.from(expected).firstFailure())
+                .isEqualTo(expected.firstFailure());
+    }
+
+    @Test
+    void givenFailedResultHoldingValue_whenMap_thenValueNotRetyped() {
+        final ImmutableResult<Integer> failed = ImmutableResult.successful(1)
+                .withFailureMessage("Failure message.");
+        final ImmutableResult<String> mapped = failed.map(String::valueOf);
+        assertThat(mapped.isFailed())
+                .isTrue();
+        assertThat(mapped.toResult().rawValue())
+                .isNull();
+        assertThat(mapped.reasons())
+                .isEqualTo(failed.reasons());
+    }
+}
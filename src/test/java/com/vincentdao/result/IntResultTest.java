@@ -0,0 +1,146 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.Reason;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class IntResultTest {
+
+    @Test
+    void givenIntResult_whenSuccessfulCreate_thenValid() {
+        final IntResult result = IntResult.successful(1);
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.isFailed())
+                .isFalse();
+        assertThat(result.valueAsInt())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenIntResult_whenFailedCreate_thenValid() {
+        final IntResult result = IntResult.failed();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThatThrownBy(result::valueAsInt)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot get value while in failed state.");
+    }
+
+    @Test
+    void givenIntResult_whenAddFailureMessage_thenFailed() {
+        final IntResult result = IntResult.successful(1)
+                .withSuccessMessage("Success message.")
+                .withFailureMessage("Failure message.");
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(2);
+        assertThat(result.failures())
+                .hasSize(1)
+                .hasOnlyElementsOfType(DefaultFailure.class);
+        assertThat(result.successes())
+                .hasSize(1)
+                .hasOnlyElementsOfType(DefaultSuccess.class);
+    }
+
+    @Test
+    void givenIntResult_whenAddReasons_thenSuccessful() {
+        final Collection<Reason> reasons = ResultTestFactory.createReasons();
+        final IntResult result = IntResult.successful(1)
+                .withReasons(reasons);
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(15);
+        assertThat(result.failures())
+                .hasSize(10);
+        assertThat(result.successes())
+                .hasSize(5);
+    }
+
+    @Test
+    void givenIntResult_whenMap_thenReasonsCarriedOver() {
+        final IntResult result = IntResult.successful(2)
+                .withSuccessMessage("Success message.");
+        final IntResult mapped = result.map(value -> value * 21);
+        assertThat(mapped.valueAsInt())
+                .isEqualTo(42);
+        assertThat(mapped.reasons())
+                .hasSize(1);
+        mapped.withFailureMessage("Failure message.");
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(1);
+    }
+
+    @Test
+    void givenFailedIntResult_whenMap_thenNotApplied() {
+        final IntResult result = IntResult.failed();
+        final IntResult mapped = result.map(value -> {
+            throw new AssertionError("Mapper must not be applied.");
+        });
+        assertThat(mapped)
+                .isNotSameAs(result);
+        assertThat(mapped.isFailed())
+                .isTrue();
+        assertThat(result.mapToLong(value -> 1L).isFailed())
+                .isTrue();
+        assertThat(result.mapToDouble(value -> 1.0).isFailed())
+                .isTrue();
+        assertThat(result.mapToObj(String::valueOf).isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenIntResult_whenMapToOtherTypes_thenValid() {
+        final IntResult result = IntResult.successful(3);
+        assertThat(result.mapToLong(value -> value * 2L).valueAsLong())
+                .isEqualTo(6L);
+        assertThat(result.mapToDouble(value -> value / 2.0).valueAsDouble())
+                .isEqualTo(1.5);
+        assertThat(result.mapToObj(String::valueOf).value())
+                .isEqualTo("3");
+        assertThatThrownBy(() -> result.mapToObj(value -> null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenIntResult_whenBoxed_thenValid() {
+        final Result<Integer> boxed = IntResult.successful(1)
+                .withSuccessMessage("Success message.")
+                .boxed();
+        assertThat(boxed.isSuccessful())
+                .isTrue();
+        assertThat(boxed.value())
+                .isEqualTo(1);
+        assertThat(boxed.reasons())
+                .hasSize(1);
+        assertThat(IntResult.failed().boxed().isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenResult_whenConvertToIntResult_thenValid() {
+        final IntResult result = IntResult.from(Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success message."));
+        assertThat(result.valueAsInt())
+                .isEqualTo(1);
+        assertThat(result.reasons())
+                .hasSize(1);
+        final IntResult failed = IntResult.from(Result.<Integer>successful()
+                .withValue(1)
+                .withFailureMessage("Failure message."));
+        assertThat(failed.isFailed())
+                .isTrue();
+        assertThat(failed.failures())
+                .hasSize(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.vincentdao.result;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class LongResultTest {
+
+    @Test
+    void givenLongResult_whenSuccessfulCreate_thenValid() {
+        final LongResult result = LongResult.successful(1L);
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.valueAsLong())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void givenLongResult_whenAddFailure_thenFailed() {
+        final LongResult result = LongResult.successful(1L)
+                .withExceptionalFailure(IllegalStateException.class, "Failure message.");
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThatThrownBy(result::valueAsLong)
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenLongResult_whenMap_thenValid() {
+        final LongResult result = LongResult.successful(Integer.MAX_VALUE);
+        assertThat(result.map(value -> value + 1).valueAsLong())
+                .isEqualTo(Integer.MAX_VALUE + 1L);
+        assertThat(result.mapToInt(value -> (int) (value % 10)).valueAsInt())
+                .isEqualTo(7);
+        assertThat(result.mapToDouble(value -> value * 0.5).valueAsDouble())
+                .isEqualTo(Integer.MAX_VALUE * 0.5);
+    }
+
+    @Test
+    void givenLongResult_whenConvert_thenValid() {
+        assertThat(LongResult.from(Result.<Long>successful().withValue(2L)).valueAsLong())
+                .isEqualTo(2L);
+        assertThat(LongResult.successful(2L).boxed().value())
+                .isEqualTo(2L);
+        assertThat(LongResult.from(Result.failed()).isFailed())
+                .isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultSuccess;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ReasonAccumulatorTest {
+
+    @Test
+    void givenAccumulator_whenNoReasonAdded_thenSuccessful() {
+        final ReasonAccumulator accumulator = new ReasonAccumulator();
+        assertThat(accumulator.isSuccessful())
+                .isTrue();
+        assertThat(accumulator.size())
+                .isZero();
+        final Result<Integer> result = accumulator.toResult(1);
+        assertThat(result.value())
+                .isEqualTo(1);
+        assertThat(result.reasons())
+                .isEmpty();
+    }
+
+    @Test
+    void givenAccumulator_whenAddReasons_thenSnapshotInOrder() {
+        final ReasonAccumulator accumulator = new ReasonAccumulator()
+                .withSuccessMessage("First.")
+                .withSuccess(new DefaultSuccess("Second."));
+        final Result<NoValue> snapshot = accumulator.toResult();
+        accumulator.withFailureMessage("Third.");
+        assertThat(snapshot.isSuccessful())
+                .isTrue();
+        assertThat(snapshot.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("First.", "Second.");
+        final Result<Integer> result = accumulator.toResult(1);
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("First.", "Second.", "Third.");
+        assertThat(accumulator.failureCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenFailedResultWithoutReason_whenAddResult_thenFailed() {
+        final ReasonAccumulator accumulator = new ReasonAccumulator()
+                .withResult(Result.failed());
+        assertThat(accumulator.isFailed())
+                .isTrue();
+        assertThat(accumulator.toResult().isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenAccumulator_whenToResultWithNullValue_thenThrowException() {
+        assertThatThrownBy(() -> new ReasonAccumulator().toResult(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenConcurrentWorkers_whenAddReasons_thenNoReasonLost() throws Exception {
+        final int workers = 4;
+        final int reasonsPerWorker = 10_000;
+        final ReasonAccumulator accumulator = new ReasonAccumulator();
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                final int id = worker;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < reasonsPerWorker; i++) {
+                        if (id == 0 && i % 100 == 0) {
+                            accumulator.withFailureMessage("Failure " + i);
+                        } else {
+                            accumulator.withSuccessMessage("Success " + i);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        final Result<NoValue> result = accumulator.toResult();
+        assertThat(result.reasons())
+                .hasSize(workers * reasonsPerWorker);
+        assertThat(result.failures())
+                .hasSize(reasonsPerWorker / 100);
+        assertThat(result.isFailed())
+                .isTrue();
+    }
+}
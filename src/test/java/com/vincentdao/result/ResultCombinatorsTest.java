@@ -0,0 +1,194 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ResultCombinatorsTest {
+
+    @Test
+    void givenSuccessfulResult_whenMap_thenValueMappedAndReasonsCarried() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success message.");
+        final Result<String> mapped = result.map(String::valueOf);
+        assertThat(mapped.isSuccessful())
+                .isTrue();
+        assertThat(mapped.value())
+                .isEqualTo("1");
+        assertThat(mapped.reasons())
+                .hasSize(1);
+    }
+
+    @Test
+    void givenMappedResult_whenAddReason_thenSourceUnchanged() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success message.");
+        final Result<String> mapped = result.map(String::valueOf)
+                .withFailureMessage("Failure message.");
+        result.withSuccessMessage("Another success message.");
+        assertThat(mapped.reasons())
+                .hasSize(2);
+        assertThat(mapped.failures())
+                .hasSize(1);
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(2);
+        assertThat(result.failures())
+                .isEmpty();
+    }
+
+    @Test
+    void givenFailedResult_whenMap_thenShortCircuit() {
+        final Result<Integer> result = Result.<Integer>failed()
+                .withFailureMessage("Failure message.");
+        final Result<String> mapped = result.map(value -> {
+            throw new AssertionError("Mapper must not be applied.");
+        });
+        assertThat(mapped)
+                .isNotSameAs(result);
+        assertThat(mapped.isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenMappedFailedResult_whenAddReason_thenSourceUnchanged() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withFailureMessage("Failure message.");
+        final Result<String> mapped = result.map(String::valueOf)
+                .withFailureMessage("Mapped failure message.");
+        final Result<String> flatMapped = result.<String>flatMap(value -> Result.failed())
+                .withSuccessMessage("Success message.");
+        assertThat(mapped.failures())
+                .hasSize(2);
+        assertThat(flatMapped.reasons())
+                .hasSize(2);
+        assertThat(result.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("Failure message.");
+        assertThat(mapped.rawValue())
+                .isNull();
+    }
+
+    @Test
+    void givenSuccessfulResult_whenMapToNull_thenThrowException() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1);
+        assertThatThrownBy(() -> result.map(value -> null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenSuccessfulResult_whenFlatMap_thenReasonsMerged() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("First.");
+        final Result<String> mapped = result.flatMap(value -> Result.<String>failed()
+                .withFailureMessage("Second."));
+        assertThat(mapped.isFailed())
+                .isTrue();
+        assertThat(mapped.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("First.", "Second.");
+    }
+
+    @Test
+    void givenResultWithoutReasons_whenFlatMap_thenMappedResultReturned() {
+        final Result<String> target = Result.<String>successful()
+                .withValue("1");
+        final Result<String> mapped = Result.<Integer>successful()
+                .withValue(1)
+                .flatMap(value -> target);
+        assertThat(mapped)
+                .isSameAs(target);
+    }
+
+    @Test
+    void givenFailedResult_whenFlatMap_thenShortCircuit() {
+        final Result<Integer> result = Result.failed();
+        assertThat(result.<String>flatMap(value -> {
+            throw new AssertionError("Mapper must not be applied.");
+        }).isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenFailedResult_whenMapFailure_thenFailuresReplaced() {
+        final Result<Integer> result = Result.<Integer>failed()
+                .withFailureMessage("Failure message.")
+                .withSuccessMessage("Success message.");
+        final Result<Integer> mapped = result.mapFailure(failure -> {
+            final Failure wrapper = new DefaultFailure("Wrapped.");
+            wrapper.causedBy(failure);
+            return wrapper;
+        });
+        assertThat(mapped.isFailed())
+                .isTrue();
+        assertThat(mapped.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("Wrapped.", "Success message.");
+        assertThat(result.reasons())
+                .extracting(reason -> reason.message())
+                .containsExactly("Failure message.", "Success message.");
+    }
+
+    @Test
+    void givenSuccessfulResult_whenMapFailure_thenUnchanged() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1);
+        assertThat(result.mapFailure(failure -> {
+            throw new AssertionError("Mapper must not be applied.");
+        }))
+                .isSameAs(result);
+    }
+
+    @Test
+    void givenFailedResult_whenRecover_thenSuccessful() {
+        final Result<Integer> result = Result.<Integer>failed()
+                .withFailureMessage("Failure message.");
+        final Result<Integer> recovered = result.recover(failures -> failures.size() * 10);
+        assertThat(recovered.isSuccessful())
+                .isTrue();
+        assertThat(recovered.value())
+                .isEqualTo(10);
+        assertThat(recovered.failures())
+                .hasSize(1);
+        assertThat(result.isFailed())
+                .isTrue();
+    }
+
+    @Test
+    void givenResult_whenFold_thenMatchingFunctionApplied() {
+        final Result<Integer> successful = Result.<Integer>successful()
+                .withValue(1);
+        final Result<Integer> failed = Result.<Integer>failed()
+                .withFailureMessage("Failure message.");
+        assertThat(successful.<String>fold(String::valueOf, failures -> "failed"))
+                .isEqualTo("1");
+        assertThat(failed.<String>fold(String::valueOf, failures -> "failed " + failures.size()))
+                .isEqualTo("failed 1");
+    }
+
+    @Test
+    void givenResult_whenIfSuccessOrIfFailure_thenMatchingActionApplied() {
+        final List<String> calls = new ArrayList<>();
+        Result.<Integer>successful()
+                .withValue(1)
+                .ifSuccess(value -> calls.add("success " + value))
+                .ifFailure(failures -> calls.add("failure"));
+        Result.<Integer>failed()
+                .withFailureMessage("Failure message.")
+                .ifSuccess(value -> calls.add("success"))
+                .ifFailure(failures -> calls.add("failure " + failures.size()));
+        assertThat(calls)
+                .containsExactly("success 1", "failure 1");
+    }
+}
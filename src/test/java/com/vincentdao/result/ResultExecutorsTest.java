@@ -0,0 +1,46 @@
+package com.vincentdao.result;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ResultExecutorsTest {
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            final Method isVirtual = Thread.class.getMethod("isVirtual");
+            return (boolean) isVirtual.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    @Test
+    void givenDefaultExecutor_whenRun_thenVirtualOnlyIfSupported() {
+        final boolean virtual = CompletableFuture.supplyAsync(() -> isVirtual(Thread.currentThread()),
+                ResultExecutors.defaultExecutor()).join();
+        assertThat(virtual)
+                .isEqualTo(ResultExecutors.isVirtual());
+    }
+
+    @Test
+    void givenTaskExecutor_whenSupplyAsync_thenCompleted() throws InterruptedException {
+        final ExecutorService executor = ResultExecutors.newTaskExecutor();
+        try {
+            final Result<Boolean> result = AsyncResult.supplyAsync(() -> Result.<Boolean>successful()
+                    .withValue(isVirtual(Thread.currentThread())), executor).join();
+            assertThat(result.value())
+                    .isEqualTo(ResultExecutors.isVirtual());
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.SECONDS))
+                    .isTrue();
+        }
+        assertThat(AsyncResult.supplyAsync(() -> Result.<Integer>successful().withValue(1)).join().value())
+                .isEqualTo(1);
+    }
+}
@@ -2,13 +2,22 @@ package com.vincentdao.result;
 
 import com.vincentdao.result.trace.DefaultFailure;
 import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionClassifier;
 import com.vincentdao.result.trace.ExceptionalFailure;
 import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.LazyFailure;
 import com.vincentdao.result.trace.Reason;
+import com.vincentdao.result.trace.ReasonCapacity;
 import com.vincentdao.result.trace.Success;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +60,69 @@ final class ResultTest {
                 .hasMessage("cannot get value from no-value result.");
     }
 
+    @Test
+    void givenResult_whenSuccessfulCreateWithSharedNoValue_thenSameInstance() {
+        final Result<NoValue> result = Result.successful().withSharedNoValue();
+        assertThat(result)
+                .isSameAs(Result.successful().withSharedNoValue());
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.reasons())
+                .isEmpty();
+        assertThatThrownBy(result::value)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("cannot get value from no-value result.");
+    }
+
+    @Test
+    void givenSharedNoValueResult_whenAddFailure_thenSharedInstanceUnchanged() {
+        final Result<NoValue> shared = Result.successful().withSharedNoValue();
+        final Result<NoValue> result = shared.withFailureMessage("Failure message.");
+        assertThat(result)
+                .isNotSameAs(shared);
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(1);
+        assertThat(shared.isSuccessful())
+                .isTrue();
+        assertThat(shared.reasons())
+                .isEmpty();
+    }
+
+    @Test
+    void givenSharedFailedResult_whenAddReason_thenSharedInstanceUnchanged() {
+        final Failure failure = new DefaultFailure("Shared failure.");
+        final Result<Integer> shared = Result.sharedFailed(failure);
+        final Result<Integer> result = shared.withFailureMessage("Failure message.");
+        assertThat(result)
+                .isNotSameAs(shared);
+        assertThat(result.failures())
+                .hasSize(2)
+                .first()
+                .isSameAs(failure);
+        assertThat(shared.withReasonCapacity(ReasonCapacity.keepFirst(1)))
+                .isNotSameAs(shared);
+        assertThat(shared.isFailed())
+                .isTrue();
+        assertThat(shared.failures())
+                .containsExactly(failure);
+    }
+
+    @Test
+    void givenResult_whenNoReasonAdded_thenReasonQueriesEmpty() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1);
+        assertThat(result.reasons())
+                .isEmpty();
+        assertThat(result.failures())
+                .isEmpty();
+        assertThat(result.successes())
+                .isEmpty();
+        assertThat(result.reasonsFiltered(Objects::nonNull))
+                .isEmpty();
+    }
+
     @Test
     void givenResult_whenFailedCreate_thenValid() {
         final Result<Integer> integerResult = Result.failed();
@@ -109,6 +181,20 @@ final class ResultTest {
                 .allMatch(f -> Objects.equals(f.message(), message));
     }
 
+    @Test
+    void givenResult_whenAddStacklessExceptionalFailure_thenSuccessful() {
+        final String message = "Failure message.";
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withExceptionalFailure(IllegalStateException.class, message);
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .hasSize(1)
+                .allMatch(f -> Objects.equals(f.message(), message))
+                .allMatch(f -> ((ExceptionalFailure) f).exceptionType() == IllegalStateException.class);
+    }
+
     @Test
     void givenResult_whenAddFailures_thenSuccessful() {
         final String message = "Failure message ";
@@ -244,4 +330,359 @@ final class ResultTest {
                 .hasSize(5)
                 .hasOnlyElementsOfType(ExceptionalFailure.class);
     }
+
+    @Test
+    void givenResult_whenCountReasons_thenValid() {
+        final Collection<Reason> reasons = ResultTestFactory.createReasons();
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withReasons(reasons);
+        assertThat(result.failureCount())
+                .isEqualTo(10);
+        assertThat(result.successCount())
+                .isEqualTo(5);
+        assertThat(Result.failed().failureCount())
+                .isZero();
+    }
+
+    @Test
+    void givenResult_whenHasFailure_thenMatchesSubtypes() {
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withExceptionalFailure(new Exception("Failure message."));
+        assertThat(result.hasFailure(ExceptionalFailure.class))
+                .isTrue();
+        assertThat(result.hasFailure(Failure.class))
+                .isTrue();
+        assertThat(result.hasFailure(DefaultFailure.class))
+                .isFalse();
+        assertThat(Result.failed().hasFailure(Failure.class))
+                .isFalse();
+    }
+
+    @Test
+    void givenResult_whenFirstFailure_thenFirstAdded() {
+        final Failure first = new DefaultFailure("First.");
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withSuccessMessage("Success message.")
+                .withFailure(first)
+                .withFailureMessage("Second.");
+        assertThat(result.firstFailure())
+                .containsSame(first);
+        assertThat(Result.successful().withNoValue().firstFailure())
+                .isEmpty();
+    }
+
+    @Test
+    void givenResultsDerivedFromOneAnother_whenAddReasons_thenIndexesIndependent() {
+        final Result<Integer> source = Result.<Integer>successful()
+                .withValue(1)
+                .withFailureMessage("First.");
+        final Result<Integer> derived = source.recover(failures -> 2)
+                .withExceptionalFailure(IllegalStateException.class, "Second.");
+        source.withSuccessMessage("Success message.");
+        assertThat(source.failureCount())
+                .isEqualTo(1);
+        assertThat(source.successCount())
+                .isEqualTo(1);
+        assertThat(source.hasFailure(ExceptionalFailure.class))
+                .isFalse();
+        assertThat(derived.failureCount())
+                .isEqualTo(2);
+        assertThat(derived.successCount())
+                .isZero();
+        assertThat(derived.hasFailure(ExceptionalFailure.class))
+                .isTrue();
+    }
+
+    @Test
+    void givenResult_whenGetReasonsView_thenLiveAndUnmodifiable() {
+        final Result<NoValue> result = Result.successful()
+                .withSharedNoValue();
+        final List<Reason> reasons = result.reasonsView();
+        final List<Failure> failures = result.failuresView();
+        final List<Success> successes = result.successesView();
+        assertThat(reasons)
+                .isEmpty();
+        final Result<NoValue> modified = result.withFailureMessage("Failure message.");
+        assertThat(modified.reasonsView())
+                .hasSize(1);
+        assertThat(reasons)
+                .isEmpty();
+
+        final Result<NoValue> fresh = Result.successful()
+                .withNoValue();
+        final List<Reason> freshReasons = fresh.reasonsView();
+        final List<Failure> freshFailures = fresh.failuresView();
+        final List<Success> freshSuccesses = fresh.successesView();
+        fresh.withFailureMessage("Failure message.")
+                .withSuccessMessage("Success message.");
+        assertThat(freshReasons)
+                .containsExactlyElementsOf(fresh.reasons());
+        assertThat(freshFailures)
+                .containsExactlyElementsOf(fresh.failures());
+        assertThat(freshSuccesses)
+                .containsExactlyElementsOf(fresh.successes());
+        assertThat(failures)
+                .isEmpty();
+        assertThat(successes)
+                .isEmpty();
+        assertThatThrownBy(() -> freshReasons.add(new DefaultSuccess("Success message.")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> freshReasons.get(2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenResult_whenForEachReason_thenVisitedInOrder() {
+        final Collection<Reason> reasons = ResultTestFactory.createReasons();
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withReasons(reasons);
+        final List<Reason> visited = new ArrayList<>();
+        result.forEachReason(visited::add);
+        assertThat(visited)
+                .containsExactlyElementsOf(reasons);
+
+        final List<Failure> visitedFailures = new ArrayList<>();
+        result.forEachFailure(visitedFailures::add);
+        assertThat(visitedFailures)
+                .containsExactlyElementsOf(result.failures());
+
+        final List<Success> visitedSuccesses = new ArrayList<>();
+        result.forEachSuccess(visitedSuccesses::add);
+        assertThat(visitedSuccesses)
+                .containsExactlyElementsOf(result.successes());
+
+        Result.successful()
+                .withNoValue()
+                .forEachReason(reason -> {
+                    throw new AssertionError("No reason expected.");
+                });
+        assertThatThrownBy(() -> result.forEachReason(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenResult_whenReasonStream_thenCoversReasonsAddedBefore() {
+        final Collection<Reason> reasons = ResultTestFactory.createReasons();
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withReasons(reasons);
+        final Stream<Reason> stream = result.reasonStream();
+        final Stream<Failure> failureStream = result.failureStream();
+        result.withFailureMessage("Failure message.");
+        assertThat(stream)
+                .containsExactlyElementsOf(reasons);
+        assertThat(failureStream)
+                .hasSize(result.failureCount() - 1);
+        assertThat(Result.successful().withNoValue().reasonStream())
+                .isEmpty();
+    }
+
+    @Test
+    void givenResult_whenAddMessageTemplates_thenFormattedOnRead() {
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withSuccessMessage("Processed %d items.", 3)
+                .withFailureMessage("Item %s is invalid.", "abc")
+                .withFailureMessageLazy(() -> "Supplied message.");
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Processed 3 items.", "Item abc is invalid.", "Supplied message.");
+        assertThat(result.failures())
+                .hasOnlyElementsOfType(LazyFailure.class);
+    }
+
+    @Test
+    void givenNullMessage_whenAddMessage_thenResolvedToStringOverload() {
+        assertThatThrownBy(() -> Result.failed().withFailureMessage(null))
+                .isExactlyInstanceOf(NullPointerException.class)
+                .hasMessage("Message must be defined.");
+        assertThatThrownBy(() -> Result.failed().withSuccessMessage(null))
+                .isExactlyInstanceOf(NullPointerException.class)
+                .hasMessage("Message must be defined.");
+    }
+
+    @Test
+    void givenResult_whenAddFailureCode_thenQueryableByCode() {
+        final FailureCode outOfStock = FailureCode.register(2001, "Item out of stock.");
+        final FailureCode discontinued = FailureCode.register(2002, "Item discontinued.");
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withFailureCode(outOfStock);
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.hasFailureCode(outOfStock))
+                .isTrue();
+        assertThat(result.hasFailureCode(discontinued))
+                .isFalse();
+        assertThat(result.failures())
+                .containsExactly(outOfStock.failure());
+
+        final Result<Integer> merged = Result.<Integer>successful()
+                .withValue(2)
+                .withSuccessMessage("Success message.")
+                .flatMap(value -> result);
+        assertThat(merged.hasFailureCode(outOfStock))
+                .isTrue();
+        assertThat(Result.failed().hasFailureCode(outOfStock))
+                .isFalse();
+    }
+
+    @Test
+    void givenBoundedCapacity_whenAddReasons_thenOverflowApplied() {
+        final Result<Integer> keepFirst = Result.<Integer>successful()
+                .withValue(1)
+                .withReasonCapacity(ReasonCapacity.keepFirst(2));
+        final Result<Integer> keepLast = Result.<Integer>successful()
+                .withValue(1)
+                .withReasonCapacity(ReasonCapacity.keepLast(2));
+        for (int i = 0; i < 5; i++) {
+            keepFirst.withSuccessMessage("Success " + i + ".");
+            keepLast.withSuccessMessage("Success " + i + ".");
+        }
+        keepFirst.withFailureMessage("Failure message.");
+        keepLast.withFailureMessage("Failure message.");
+        assertThat(keepFirst.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success 0.", "Success 1.");
+        assertThat(keepFirst.isFailed())
+                .isTrue();
+        assertThat(keepFirst.failureCount())
+                .isZero();
+        assertThat(keepFirst.droppedReasonCount())
+                .isEqualTo(4);
+        assertThat(keepLast.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success 4.", "Failure message.");
+        assertThat(keepLast.failureCount())
+                .isEqualTo(1);
+        assertThat(keepLast.successCount())
+                .isEqualTo(1);
+        assertThat(keepLast.droppedReasonCount())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void givenSampleCapacity_whenAddReasons_thenSizeBoundedAndIndexed() {
+        final Result<NoValue> result = Result.successful()
+                .withNoValue()
+                .withReasonCapacity(ReasonCapacity.sample(8));
+        for (int i = 0; i < 1000; i++) {
+            result.withFailureMessage("Failure " + i + ".");
+        }
+        assertThat(result.reasons())
+                .hasSize(8)
+                .doesNotHaveDuplicates();
+        assertThat(result.failureCount())
+                .isEqualTo(8);
+        assertThat(result.droppedReasonCount())
+                .isEqualTo(992);
+        assertThat(result.hasFailure(DefaultFailure.class))
+                .isTrue();
+    }
+
+    @Test
+    void givenReasonsAdded_whenBoundCapacity_thenExistingReasonsBounded() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success 0.")
+                .withSuccessMessage("Success 1.")
+                .withSuccessMessage("Success 2.")
+                .withReasonCapacity(ReasonCapacity.keepLast(2));
+        assertThat(result.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success 1.", "Success 2.");
+        final Result<Integer> mapped = result.map(value -> value + 1)
+                .withSuccessMessage("Success 3.");
+        assertThat(mapped.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success 2.", "Success 3.");
+        assertThat(mapped.droppedReasonCount())
+                .isEqualTo(2);
+        assertThat(result.reasons())
+                .extracting(Reason::message)
+                .containsExactly("Success 1.", "Success 2.");
+        assertThat(Result.successful().withNoValue().droppedReasonCount())
+                .isZero();
+        assertThatThrownBy(() -> ReasonCapacity.keepFirst(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> result.withReasonCapacity(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenCallable_whenOf_thenValueOrExceptionalFailure() {
+        final Result<Integer> successful = Result.of(() -> 1);
+        assertThat(successful.isSuccessful())
+                .isTrue();
+        assertThat(successful.value())
+                .isEqualTo(1);
+
+        final Result<Integer> failed = Result.of(() -> {
+            throw new TimeoutException("Timed out.");
+        });
+        assertThat(failed.isFailed())
+                .isTrue();
+        assertThat(failed.failures())
+                .singleElement()
+                .isInstanceOfSatisfying(ExceptionalFailure.class,
+                        failure -> assertThat(failure.exceptionType()).isEqualTo(TimeoutException.class));
+        assertThat(Result.of(() -> null).isFailed())
+                .isTrue();
+
+        assertThat(Result.ofRunnable(() -> {
+        }).isSuccessful())
+                .isTrue();
+        assertThat(Result.ofRunnable(() -> {
+            throw new IllegalStateException("Illegal state.");
+        }).hasFailure(ExceptionalFailure.class))
+                .isTrue();
+    }
+
+    @Test
+    void givenClassifier_whenOf_thenMappedByNearestType() {
+        final FailureCode timedOut = FailureCode.register(2003, "Timed out.");
+        final ExceptionClassifier classifier = ExceptionClassifier.defaults()
+                .map(RuntimeException.class, exception -> new DefaultFailure("Runtime: " + exception.getMessage()))
+                .map(IllegalArgumentException.class, exception -> new DefaultFailure("Argument."))
+                .map(TimeoutException.class, timedOut);
+        assertThat(Result.of(() -> {
+            throw new NumberFormatException("Not a number.");
+        }, classifier).failures())
+                .extracting(Failure::message)
+                .containsExactly("Argument.");
+        assertThat(Result.ofRunnable(() -> {
+            throw new IllegalStateException("Illegal state.");
+        }, classifier).failures())
+                .extracting(Failure::message)
+                .containsExactly("Runtime: Illegal state.");
+        assertThat(Result.of(() -> {
+            throw new TimeoutException("Timed out.");
+        }, classifier).hasFailureCode(timedOut))
+                .isTrue();
+        assertThat(Result.of(() -> {
+            throw new IOException("I/O.");
+        }, classifier).hasFailure(ExceptionalFailure.class))
+                .isTrue();
+        assertThat(ExceptionClassifier.defaults().classify(new IOException("I/O.")))
+                .isInstanceOf(ExceptionalFailure.class);
+    }
+
+    @Test
+    void givenInterruptedCallable_whenOf_thenInterruptRestored() {
+        final Result<Integer> result = Result.of(() -> {
+            throw new InterruptedException();
+        });
+        assertThat(Thread.interrupted())
+                .isTrue();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThatThrownBy(() -> Result.of(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
 }
@@ -0,0 +1,85 @@
+package com.vincentdao.result;
+
+import com.vincentdao.result.trace.Failure;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ResultsTest {
+
+    private static Result<Integer> resultOf(int value) {
+        if (value % 10 == 0) {
+            return Result.<Integer>failed()
+                    .withFailureMessage("Failure " + value);
+        }
+        return Result.<Integer>successful()
+                .withValue(value)
+                .withSuccessMessage("Success " + value);
+    }
+
+    @Test
+    void givenSuccessfulResults_whenToListResult_thenValuesInOrder() {
+        final Result<List<Integer>> result = IntStream.range(1, 10)
+                .mapToObj(ResultsTest::resultOf)
+                .collect(Results.toListResult());
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.value())
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(result.successes())
+                .hasSize(9);
+    }
+
+    @Test
+    void givenFailedResult_whenToListResult_thenFailedWithAllReasons() {
+        final Result<List<Integer>> result = IntStream.range(1, 21)
+                .mapToObj(ResultsTest::resultOf)
+                .collect(Results.toListResult());
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.reasons())
+                .hasSize(20);
+        assertThat(result.failures())
+                .extracting(Failure::message)
+                .containsExactly("Failure 10", "Failure 20");
+    }
+
+    @Test
+    void givenParallelStream_whenToListResult_thenSameAsSequential() {
+        final Result<List<Integer>> result = IntStream.range(1, 10_000)
+                .filter(i -> i % 10 != 0)
+                .boxed()
+                .collect(Collectors.toList())
+                .parallelStream()
+                .map(ResultsTest::resultOf)
+                .collect(Results.toListResult());
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.value())
+                .hasSize(9_000)
+                .isSorted();
+        assertThat(result.reasons())
+                .hasSize(9_000);
+    }
+
+    @Test
+    void givenResults_whenPartitioning_thenValuesAndFailuresSplit() {
+        final ResultPartition<Integer> partition = IntStream.range(1, 31)
+                .parallel()
+                .mapToObj(ResultsTest::resultOf)
+                .collect(Results.partitioning());
+        assertThat(partition.successfulCount())
+                .isEqualTo(27);
+        assertThat(partition.failedCount())
+                .isEqualTo(3);
+        assertThat(partition.values())
+                .hasSize(27)
+                .isSorted();
+        assertThat(partition.failures())
+                .extracting(Failure::message)
+                .containsExactly("Failure 10", "Failure 20", "Failure 30");
+    }
+}
@@ -0,0 +1,190 @@
+package com.vincentdao.result.cache;
+
+import com.vincentdao.result.ImmutableResult;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ResultCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+
+    private Result<String> load(Integer key) {
+        loads.incrementAndGet();
+        if (key < 0) {
+            return Result.<String>failed().withFailureMessage("Not found.");
+        }
+        return Result.<String>successful().withValue("Value " + key);
+    }
+
+    @Test
+    void givenCachedResults_whenGet_thenLoadedOnce() {
+        final ResultCache<Integer, String> cache = ResultCache.<Integer, String>builder()
+                .build(this::load);
+        final ImmutableResult<String> first = cache.get(1);
+        assertThat(cache.get(1))
+                .isSameAs(first);
+        assertThat(first.value())
+                .isEqualTo("Value 1");
+        assertThat(cache.get(-1).isFailed())
+                .isTrue();
+        assertThat(cache.get(-1).isFailed())
+                .isTrue();
+        assertThat(loads)
+                .hasValue(2);
+        final CacheStats stats = cache.stats();
+        assertThat(stats.hitCount())
+                .isEqualTo(2);
+        assertThat(stats.missCount())
+                .isEqualTo(2);
+        assertThat(stats.loadFailureCount())
+                .isEqualTo(1);
+        assertThat(stats.hitRate())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    void givenSeparateTtls_whenExpired_thenReloaded() {
+        final ResultCache<Integer, String> cache = ResultCache.<Integer, String>builder()
+                .withSuccessTtl(Duration.ofNanos(100))
+                .withFailureTtl(Duration.ofNanos(10))
+                .withTicker(time::get)
+                .build(this::load);
+        cache.get(1);
+        cache.get(-1);
+        time.set(50);
+        cache.get(1);
+        cache.get(-1);
+        assertThat(loads)
+                .hasValue(3);
+        time.set(200);
+        cache.get(1);
+        assertThat(loads)
+                .hasValue(4);
+
+        final ResultCache<Integer, String> uncachedFailures = ResultCache.<Integer, String>builder()
+                .withFailureTtl(Duration.ZERO)
+                .build(this::load);
+        uncachedFailures.get(-1);
+        uncachedFailures.get(-1);
+        assertThat(loads)
+                .hasValue(6);
+        assertThat(uncachedFailures.size())
+                .isZero();
+    }
+
+    @Test
+    void givenMaximumSize_whenFull_thenUnreadEntriesEvictedFirst() {
+        final ResultCache<Integer, String> cache = ResultCache.<Integer, String>builder()
+                .withMaximumSize(2)
+                .build(this::load);
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+        assertThat(cache.size())
+                .isEqualTo(2);
+        assertThat(cache.stats().evictionCount())
+                .isEqualTo(1);
+        loads.set(0);
+        cache.get(1);
+        cache.get(3);
+        assertThat(loads)
+                .hasValue(0);
+        cache.get(2);
+        assertThat(loads)
+                .hasValue(1);
+    }
+
+    @Test
+    void givenMaximumSize_whenEntriesExpiredOrInvalidated_thenRemovedFromClock() {
+        final ResultCache<Integer, String> cache = ResultCache.<Integer, String>builder()
+                .withMaximumSize(100)
+                .withSuccessTtl(Duration.ofNanos(10))
+                .withTicker(time::get)
+                .build(this::load);
+        for (int i = 0; i < 1_000; i++) {
+            cache.get(i % 3);
+            time.addAndGet(10);
+        }
+        assertThat(cache.clockSize())
+                .isLessThanOrEqualTo(2L * cache.size());
+        assertThat(cache.stats().evictionCount())
+                .isZero();
+        cache.invalidateAll();
+        assertThat(cache.clockSize())
+                .isZero();
+    }
+
+    @Test
+    void givenConcurrentGets_whenLoading_thenSingleLoad() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ResultCache<Integer, String> cache = ResultCache.<Integer, String>builder()
+                .build(key -> {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load(key);
+                });
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<ImmutableResult<String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get(1)));
+            assertThat(loading.await(5, TimeUnit.SECONDS))
+                    .isTrue();
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> cache.get(1)));
+            }
+            release.countDown();
+            final ImmutableResult<String> first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ImmutableResult<String>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS))
+                        .isSameAs(first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(loads)
+                .hasValue(1);
+    }
+
+    @Test
+    void givenThrowingLoader_whenGet_thenFailureCached() {
+        final ResultCache<Integer, String> cache = ResultCache.<Integer, String>builder()
+                .build(key -> {
+                    loads.incrementAndGet();
+                    throw new IllegalStateException("Illegal state.");
+                });
+        assertThat(cache.get(1).hasFailure(ExceptionalFailure.class))
+                .isTrue();
+        cache.get(1);
+        assertThat(loads)
+                .hasValue(1);
+        cache.invalidate(1);
+        cache.get(1);
+        assertThat(loads)
+                .hasValue(2);
+        assertThatThrownBy(() -> cache.get(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ResultCache.builder().withMaximumSize(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
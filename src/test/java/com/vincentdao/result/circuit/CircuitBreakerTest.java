@@ -0,0 +1,272 @@
+package com.vincentdao.result.circuit;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.FailureCode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class CircuitBreakerTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+
+    private Result<String> succeed() {
+        calls.incrementAndGet();
+        return Result.<String>successful().withValue("Value");
+    }
+
+    private Result<String> fail() {
+        calls.incrementAndGet();
+        return Result.<String>failed().withFailureMessage("Unavailable.");
+    }
+
+    private CircuitBreaker.Builder builder() {
+        return CircuitBreaker.builder()
+                .withSlidingWindowSize(4)
+                .withMinimumCalls(4)
+                .withOpenDuration(Duration.ofNanos(100))
+                .withHalfOpenCalls(2)
+                .withTicker(time::get);
+    }
+
+    @Test
+    void givenFailureRateReached_whenCall_thenRejectedWithSharedResult() {
+        final CircuitBreaker breaker = builder().build();
+        breaker.call(this::fail);
+        breaker.call(this::fail);
+        breaker.call(this::fail);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.call(this::succeed);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.call(this::fail);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+        final Result<String> rejected = breaker.call(this::succeed);
+        assertThat(breaker.call(this::succeed))
+                .isSameAs(rejected);
+        assertThat(rejected.isFailed())
+                .isTrue();
+        assertThat(rejected.hasFailure(CircuitOpenFailure.class))
+                .isTrue();
+        assertThat(rejected.firstFailure())
+                .hasValueSatisfying(failure -> assertThat(failure.message()).isEqualTo("Circuit breaker is open."));
+        assertThat(calls)
+                .hasValue(5);
+        assertThat(breaker.rejectedCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenOpenDurationElapsed_whenTrialCallsSucceed_thenClosed() {
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .build();
+        breaker.call(this::fail);
+        time.set(99);
+        assertThat(breaker.call(this::succeed).hasFailure(CircuitOpenFailure.class))
+                .isTrue();
+        time.set(100);
+        assertThat(breaker.call(this::succeed).isSuccessful())
+                .isTrue();
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.call(this::succeed);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate())
+                .isZero();
+        assertThat(calls)
+                .hasValue(3);
+    }
+
+    @Test
+    void givenHalfOpen_whenTrialCallFails_thenOpenedAgain() {
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .build();
+        breaker.call(this::fail);
+        time.set(100);
+        breaker.call(this::fail);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        time.set(199);
+        assertThat(breaker.call(this::succeed).isFailed())
+                .isTrue();
+        time.set(200);
+        assertThat(breaker.call(this::succeed).isSuccessful())
+                .isTrue();
+        assertThat(calls)
+                .hasValue(3);
+    }
+
+    @Test
+    void givenHalfOpen_whenTrialCallsTaken_thenOtherCallsRejected() {
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .build();
+        breaker.call(this::fail);
+        time.set(100);
+        final List<Result<String>> nested = new ArrayList<>();
+        breaker.call(() -> {
+            breaker.call(() -> {
+                nested.add(breaker.call(this::succeed));
+                return succeed();
+            });
+            return succeed();
+        });
+        assertThat(nested)
+                .singleElement()
+                .satisfies(result -> assertThat(result.hasFailure(CircuitOpenFailure.class)).isTrue());
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenCallAdmittedWhileClosed_whenCompletedHalfOpen_thenNotCountedAsTrial() {
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .build();
+        breaker.call(() -> {
+            breaker.call(this::fail);
+            time.set(100);
+            breaker.call(this::succeed);
+            assertThat(breaker.state())
+                    .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            return succeed();
+        });
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.call(this::fail);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+    }
+
+    @Test
+    void givenCallAdmittedWhileClosed_whenFailedHalfOpen_thenNotReopened() {
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .build();
+        breaker.call(() -> {
+            breaker.call(this::fail);
+            time.set(100);
+            breaker.call(this::succeed);
+            return fail();
+        });
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.call(this::succeed);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenOldFailures_whenSlidOutOfWindow_thenNotCounted() {
+        final CircuitBreaker breaker = builder().withFailureRateThreshold(0.75)
+                .build();
+        breaker.call(this::fail);
+        breaker.call(this::fail);
+        breaker.call(this::succeed);
+        breaker.call(this::succeed);
+        assertThat(breaker.failureRate())
+                .isEqualTo(0.5);
+        breaker.call(this::succeed);
+        breaker.call(this::fail);
+        assertThat(breaker.failureRate())
+                .isEqualTo(0.25);
+        breaker.call(this::fail);
+        breaker.call(this::fail);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void givenCountedFailureType_whenOtherFailures_thenNotCounted() {
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .withCountedFailure(ExceptionalFailure.class)
+                .build();
+        final Result<String> failed = breaker.call(this::fail);
+        assertThat(failed.isFailed())
+                .isTrue();
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+        final Result<String> thrown = breaker.call(() -> {
+            throw new IllegalStateException("Timed out.");
+        });
+        assertThat(thrown.hasFailure(ExceptionalFailure.class))
+                .isTrue();
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void givenRejectionCode_whenOpen_thenRejectedWithCodedFailure() {
+        final FailureCode unavailable = FailureCode.register(7001, "Service unavailable.");
+        final CircuitBreaker breaker = builder().withMinimumCalls(1)
+                .withRejectionCode(unavailable)
+                .build();
+        breaker.call(() -> null);
+        final Result<String> rejected = breaker.call(this::succeed);
+        assertThat(rejected.hasFailureCode(unavailable))
+                .isTrue();
+        final Result<String> extended = rejected.withFailure(new DefaultFailure("Order not placed."));
+        assertThat(extended)
+                .isNotSameAs(rejected);
+        assertThat(breaker.call(this::succeed).failures())
+                .hasSize(1);
+    }
+
+    @Test
+    void givenConcurrentCalls_whenAllSucceed_thenAllRecorded() throws Exception {
+        final CircuitBreaker breaker = CircuitBreaker.builder()
+                .withSlidingWindowSize(64)
+                .build();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1_000; j++) {
+                        breaker.call(this::succeed);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(calls)
+                .hasValue(4_000);
+        assertThat(breaker.state())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate())
+                .isZero();
+    }
+
+    @Test
+    void givenInvalidSettings_whenBuild_thenThrown() {
+        assertThatThrownBy(() -> CircuitBreaker.builder().withFailureRateThreshold(0.0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CircuitBreaker.builder().withOpenDuration(null))
+                .isExactlyInstanceOf(NullPointerException.class)
+                .hasMessage("Open duration must be defined.");
+        assertThatThrownBy(() -> CircuitBreaker.builder().withSlidingWindowSize(5).withMinimumCalls(6).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Minimum calls must not exceed the sliding window size.");
+        assertThatThrownBy(() -> CircuitBreaker.builder().build().call(null))
+                .isExactlyInstanceOf(NullPointerException.class)
+                .hasMessage("Operation must be defined.");
+    }
+}
@@ -0,0 +1,230 @@
+package com.vincentdao.result.codec;
+
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.BaseFailure;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.FailureTree;
+import com.vincentdao.result.trace.LazyFailure;
+import com.vincentdao.result.trace.Reason;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ResultCodecTest {
+
+    private static <T> Result<T> roundTrip(ResultCodec<T> codec, Result<T> result, boolean direct) {
+        final int size = codec.encodedSize(result);
+        final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        codec.encode(result, buffer);
+        assertThat(buffer.position())
+                .isEqualTo(size);
+        buffer.flip();
+        final Result<T> decoded = codec.decode(buffer);
+        assertThat(buffer.hasRemaining())
+                .isFalse();
+        return decoded;
+    }
+
+    @Test
+    void givenSuccessfulResult_whenRoundTrip_thenEqualValueAndReasons() {
+        final ResultCodec<String> codec = ResultCodec.of(ValueCodecs.strings());
+        final Result<String> result = Result.<String>successful()
+                .withValue("Value ünïcödé 😀")
+                .withSuccessMessage("Success message.")
+                .withSuccess(new DefaultSuccess("Другое сообщение."));
+        for (boolean direct : new boolean[]{false, true}) {
+            final Result<String> decoded = roundTrip(codec, result, direct);
+            assertThat(decoded.isSuccessful())
+                    .isTrue();
+            assertThat(decoded.value())
+                    .isEqualTo(result.value());
+            assertThat(decoded.reasons())
+                    .extracting(Reason::message)
+                    .containsExactly("Success message.", "Другое сообщение.");
+        }
+    }
+
+    @Test
+    void givenSuccessfulNoValueResult_whenRoundTrip_thenNoValue() {
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue());
+        final Result<NoValue> decoded = roundTrip(codec, Result.successful().withSharedNoValue(), false);
+        assertThat(decoded.isSuccessful())
+                .isTrue();
+        assertThat(decoded.reasons())
+                .isEmpty();
+        assertThat(codec.encodedSize(Result.successful().withNoValue()))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void givenFailedResult_whenRoundTrip_thenFailureTreeKept() {
+        final ResultCodec<Integer> codec = ResultCodec.of(ValueCodecs.integers());
+        final Failure root = new DefaultFailure("Root.");
+        final Failure cause = new LazyFailure("Cause %d.", 1);
+        cause.causedBy(new ExceptionalFailure(new TimeoutException("Timed out.")));
+        root.causedBy(cause);
+        root.causedBy(new DefaultFailure("Second cause."));
+        final FailureCode code = FailureCode.register(3001, "Coded failure.");
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(1)
+                .withFailure(root)
+                .withFailureCode(code)
+                .withSuccessMessage("Success message.");
+
+        final Result<Integer> decoded = roundTrip(codec, result, false);
+        assertThat(decoded.isFailed())
+                .isTrue();
+        assertThat(decoded.reasons())
+                .hasSize(3);
+        final Failure decodedRoot = decoded.failuresView().get(0);
+        assertThat(FailureTree.depthFirst(decodedRoot))
+                .extracting(Failure::message)
+                .containsExactly("Root.", "Cause 1.", "Timed out.", "Second cause.");
+        final ExceptionalFailure exceptional = (ExceptionalFailure) FailureTree.depthFirst(decodedRoot)
+                .skip(2)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertThat(exceptional.exceptionType())
+                .isEqualTo(TimeoutException.class);
+        assertThat(decoded.hasFailureCode(code))
+                .isTrue();
+        assertThat(decoded.failuresView().get(1))
+                .isSameAs(code.failure());
+    }
+
+    @Test
+    void givenDeepFailureChain_whenRoundTrip_thenNoStackOverflow() {
+        final int depth = 50_000;
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue());
+        final Failure root = new DefaultFailure("Failure message.");
+        Failure current = root;
+        for (int i = 0; i < depth; i++) {
+            final Failure cause = new DefaultFailure("Failure message.");
+            current.causedBy(cause);
+            current = cause;
+        }
+        final Result<NoValue> decoded = roundTrip(codec, Result.<NoValue>failed().withFailure(root), true);
+        assertThat(FailureTree.depthFirst(decoded.failuresView().get(0)).count())
+                .isEqualTo(depth + 1);
+    }
+
+    @Test
+    void givenFailureCycle_whenEncode_thenThrowException() {
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue());
+        final Failure failure = new DefaultFailure("Failure message.");
+        final Failure cause = new DefaultFailure("Cause.");
+        failure.causedBy(cause);
+        cause.causedBy(failure);
+        assertThatThrownBy(() -> codec.encodedSize(Result.<NoValue>failed().withFailure(failure)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenCustomReason_whenRegistered_thenRoundTrip() {
+        final ReasonCodecRegistry registry = ReasonCodecRegistry.withDefaults()
+                .register(ReasonCodecRegistry.FIRST_CUSTOM_TAG, FieldFailure.class, new FieldFailureCodec());
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue(), registry);
+        final Result<NoValue> decoded = roundTrip(codec,
+                Result.<NoValue>failed().withFailure(new FieldFailure("name", "Must not be blank.")), false);
+        assertThat(decoded.failures())
+                .singleElement()
+                .isInstanceOfSatisfying(FieldFailure.class, failure -> assertThat(failure.field).isEqualTo("name"));
+
+        assertThatThrownBy(() -> registry.register(1, FieldFailure.class, new FieldFailureCodec()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.register(ReasonCodecRegistry.FIRST_CUSTOM_TAG, FieldFailure.class,
+                new FieldFailureCodec()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenUnregisteredReason_whenRoundTrip_thenDecodedByKind() {
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue());
+        final Result<NoValue> decoded = roundTrip(codec,
+                Result.<NoValue>failed().withFailure(new FieldFailure("name", "Must not be blank.")), false);
+        assertThat(decoded.failures())
+                .singleElement()
+                .isInstanceOf(DefaultFailure.class)
+                .extracting(Reason::message)
+                .isEqualTo("Must not be blank.");
+    }
+
+    @Test
+    void givenMalformedInput_whenDecode_thenThrowException() {
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue());
+        assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[]{2, 0, 0})))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[]{ResultCodec.VERSION, 0, 1, 99})))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[]{ResultCodec.VERSION, 0, 100})))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenCausesUnderCodedFailure_whenDecode_thenThrowException() {
+        final ResultCodec<NoValue> codec = ResultCodec.of(ValueCodecs.noValue());
+        final byte[] coded = encode(codec, Result.<NoValue>failed()
+                .withFailureCode(FailureCode.register(3002, "Coded failure.")));
+        final byte[] cause = encode(codec, Result.<NoValue>failed()
+                .withFailureMessage("Cause."));
+        // The cause count of the coded failure, its last byte, set to 1 and followed by the node of the cause
+        final ByteBuffer malformed = ByteBuffer.allocate(coded.length + cause.length - 3);
+        malformed.put(coded, 0, coded.length - 1)
+                .put((byte) 1)
+                .put(cause, 3, cause.length - 3)
+                .flip();
+        assertThatThrownBy(() -> codec.decode(malformed))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed causes: coded failures cannot have causes.");
+    }
+
+    private static <T> byte[] encode(ResultCodec<T> codec, Result<T> result) {
+        final byte[] bytes = new byte[codec.encodedSize(result)];
+        codec.encode(result, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    private static final class FieldFailure extends BaseFailure {
+
+        private final String field;
+        private final String message;
+
+        private FieldFailure(String field, String message) {
+            super();
+            this.field = field;
+            this.message = message;
+        }
+
+        @Override
+        public String message() {
+            return message;
+        }
+    }
+
+    private static final class FieldFailureCodec implements ReasonCodec<FieldFailure> {
+
+        @Override
+        public int size(FieldFailure reason) {
+            return ValueCodecs.strings().size(reason.field) + ValueCodecs.strings().size(reason.message());
+        }
+
+        @Override
+        public void encode(FieldFailure reason, ByteBuffer buffer) {
+            ValueCodecs.strings().encode(reason.field, buffer);
+            ValueCodecs.strings().encode(reason.message(), buffer);
+        }
+
+        @Override
+        public FieldFailure decode(ByteBuffer buffer) {
+            return new FieldFailure(ValueCodecs.strings().decode(buffer), ValueCodecs.strings().decode(buffer));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.vincentdao.result.json;
+
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ResultJsonWriterTest {
+
+    private final ResultJsonWriter writer = ResultJsonWriter.create();
+
+    @Test
+    void givenSuccessfulResult_whenWrite_thenValueAndReasons() {
+        final Result<Integer> result = Result.<Integer>successful()
+                .withValue(42)
+                .withSuccessMessage("Success message.");
+        assertThat(writer.toJson(result))
+                .isEqualTo("{\"successful\":true,\"value\":42,\"reasons\":["
+                        + "{\"kind\":\"success\",\"message\":\"Success message.\"}]}");
+        assertThat(writer.toJson(Result.<String>successful().withValue("a\"b\\c\n\u0001")))
+                .isEqualTo("{\"successful\":true,\"value\":\"a\\\"b\\\\c\\n\\u0001\",\"reasons\":[]}");
+        assertThat(writer.toJson(Result.successful().withNoValue()))
+                .isEqualTo("{\"successful\":true,\"reasons\":[]}");
+        assertThat(writer.toJson(Result.<Double>successful().withValue(Double.NaN)))
+                .isEqualTo("{\"successful\":true,\"value\":\"NaN\",\"reasons\":[]}");
+    }
+
+    @Test
+    void givenFailedResult_whenWrite_thenFailureTree() {
+        final Failure root = new DefaultFailure("Order rejected.");
+        root.causedBy(FailureCode.register(4001, "Item out of stock.").failure());
+        root.causedBy(ExceptionalFailure.stackless(TimeoutException.class, "Timed out."));
+        final Result<NoValue> result = Result.<NoValue>failed()
+                .withFailure(root);
+        assertThat(writer.toJson(result))
+                .isEqualTo("{\"successful\":false,\"reasons\":["
+                        + "{\"kind\":\"failure\",\"message\":\"Order rejected.\",\"causes\":["
+                        + "{\"kind\":\"failure\",\"message\":\"Item out of stock.\",\"code\":4001},"
+                        + "{\"kind\":\"failure\",\"message\":\"Timed out.\","
+                        + "\"exceptionType\":\"java.util.concurrent.TimeoutException\"}]}]}");
+    }
+
+    @Test
+    void givenLimits_whenWrite_thenOmittedCounted() {
+        final Failure root = new DefaultFailure("Root.");
+        final Failure cause = new DefaultFailure("Cause.");
+        cause.causedBy(new DefaultFailure("Nested cause."));
+        root.causedBy(cause);
+        root.causedBy(new DefaultFailure("Second cause."));
+        final Result<NoValue> result = Result.<NoValue>failed()
+                .withFailure(root)
+                .withFailureMessage("Second.");
+        assertThat(writer.withMaxDepth(1).toJson(result))
+                .isEqualTo("{\"successful\":false,\"reasons\":["
+                        + "{\"kind\":\"failure\",\"message\":\"Root.\",\"omittedCauses\":2},"
+                        + "{\"kind\":\"failure\",\"message\":\"Second.\"}]}");
+        assertThat(writer.withMaxReasons(2).toJson(result))
+                .isEqualTo("{\"successful\":false,\"reasons\":["
+                        + "{\"kind\":\"failure\",\"message\":\"Root.\",\"causes\":["
+                        + "{\"kind\":\"failure\",\"message\":\"Cause.\",\"causes\":[],\"omittedCauses\":1}],"
+                        + "\"omittedCauses\":1}],\"omittedReasons\":1}");
+        assertThatThrownBy(() -> writer.withMaxDepth(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenFailureCycle_whenWrite_thenBoundedByDepth() {
+        final Failure failure = new DefaultFailure("Failure message.");
+        failure.causedBy(failure);
+        final String json = writer.withMaxDepth(3).toJson(Result.failed().withFailure(failure));
+        assertThat(json)
+                .endsWith("\"omittedCauses\":1}]}]}]}");
+    }
+
+    @Test
+    void givenDeepFailureChain_whenWrite_thenNoStackOverflow() {
+        final Failure root = new DefaultFailure("Failure message.");
+        Failure current = root;
+        for (int i = 0; i < 100_000; i++) {
+            final Failure cause = new DefaultFailure("Failure message.");
+            current.causedBy(cause);
+            current = cause;
+        }
+        final String json = writer.withMaxDepth(Integer.MAX_VALUE)
+                .withMaxReasons(Integer.MAX_VALUE)
+                .toJson(Result.failed().withFailure(root));
+        assertThat(json)
+                .doesNotContain("omitted");
+    }
+
+    @Test
+    void givenOutputs_whenWrite_thenSameJson() throws IOException {
+        final Result<String> result = Result.<String>successful()
+                .withValue("Value ünïcödé.");
+        final StringWriter stringWriter = new StringWriter();
+        writer.write(result, stringWriter);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.write(result, (value, out) -> ResultJsonWriter.writeString(value.toUpperCase(), out), stream);
+        assertThat(stringWriter.toString())
+                .isEqualTo(writer.toJson(result));
+        assertThat(new String(stream.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"successful\":true,\"value\":\"VALUE ÜNÏCÖDÉ.\",\"reasons\":[]}");
+    }
+}
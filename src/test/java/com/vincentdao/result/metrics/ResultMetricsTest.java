@@ -0,0 +1,123 @@
+package com.vincentdao.result.metrics;
+
+import com.vincentdao.result.ImmutableResult;
+import com.vincentdao.result.IntResult;
+import com.vincentdao.result.NoValue;
+import com.vincentdao.result.Result;
+import com.vincentdao.result.ResultListener;
+import com.vincentdao.result.ResultListeners;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.FailureCode;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ResultMetricsTest {
+
+    private final ResultMetrics metrics = new ResultMetrics();
+
+    @BeforeEach
+    void setUp() {
+        ResultListeners.register(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ResultListeners.unregister(metrics);
+    }
+
+    @Test
+    void givenRegisteredMetrics_whenCreateResults_thenOutcomesCounted() {
+        final FailureCode code = FailureCode.register(5001, "Item out of stock.");
+        Result.<Integer>successful()
+                .withValue(1)
+                .withSuccessMessage("Success message.")
+                .withFailureCode(code)
+                .withFailureMessage("Failure message.");
+        Result.<NoValue>failed()
+                .withFailures(Arrays.asList(new DefaultFailure("First."), code.failure()));
+        IntResult.successful(1)
+                .withFailureMessage("Failure message.");
+
+        assertThat(metrics.createdSuccessful())
+                .isEqualTo(2);
+        assertThat(metrics.createdFailed())
+                .isEqualTo(1);
+        assertThat(metrics.failedTransitions())
+                .isEqualTo(2);
+        assertThat(metrics.reasonCount(DefaultFailure.class))
+                .isEqualTo(3);
+        assertThat(metrics.reasonCount(DefaultSuccess.class))
+                .isEqualTo(1);
+        assertThat(metrics.failureCodeCount(code))
+                .isEqualTo(2);
+        assertThat(metrics.failureCodeCounts())
+                .containsEntry(code, 2L);
+
+        metrics.reset();
+        assertThat(metrics.createdSuccessful())
+                .isZero();
+        assertThat(metrics.reasonCounts())
+                .isEmpty();
+    }
+
+    @Test
+    void givenRegisteredMetrics_whenDeriveImmutableResults_thenEachCreationCounted() {
+        final FailureCode code = FailureCode.register(5002, "Item discontinued.");
+        ImmutableResult.successful(1)
+                .withSuccessMessage("Success message.")
+                .withFailureCode(code)
+                .withFailureMessage("Failure message.");
+
+        assertThat(metrics.createdSuccessful())
+                .isEqualTo(2);
+        assertThat(metrics.createdFailed())
+                .isEqualTo(2);
+        assertThat(metrics.failedTransitions())
+                .isZero();
+        assertThat(metrics.reasonCount(DefaultSuccess.class))
+                .isEqualTo(1);
+        assertThat(metrics.reasonCount(DefaultFailure.class))
+                .isEqualTo(1);
+        assertThat(metrics.failureCodeCount(code))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenSeveralListeners_whenCreateResult_thenAllNotified() {
+        final AtomicInteger created = new AtomicInteger();
+        final ResultListener listener = new ResultListener() {
+            @Override
+            public void onCreated(boolean successful) {
+                created.incrementAndGet();
+            }
+        };
+        ResultListeners.register(listener);
+        try {
+            Result.failed();
+        } finally {
+            ResultListeners.unregister(listener);
+        }
+        Result.failed();
+        assertThat(created)
+                .hasValue(1);
+        assertThat(metrics.createdFailed())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenUnregisteredMetrics_whenCreateResult_thenNotCounted() {
+        assertThat(ResultListeners.unregister(metrics))
+                .isTrue();
+        Result.failed().withFailureMessage("Failure message.");
+        assertThat(metrics.createdFailed())
+                .isZero();
+        assertThat(ResultListeners.unregister(metrics))
+                .isFalse();
+    }
+}
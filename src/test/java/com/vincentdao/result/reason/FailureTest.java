@@ -1,10 +1,17 @@
 package com.vincentdao.result.reason;
 
+import com.vincentdao.result.trace.CodedFailure;
 import com.vincentdao.result.trace.DefaultFailure;
 import com.vincentdao.result.trace.ExceptionalFailure;
 import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import com.vincentdao.result.trace.LazyFailure;
+import com.vincentdao.result.trace.ReasonCapacity;
+import com.vincentdao.result.trace.RecordedException;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -80,4 +87,162 @@ final class FailureTest {
         assertThat(defaultFailure.exception())
                 .isEqualTo(exception);
     }
+
+    @Test
+    void givenStacklessExceptionalFailure_whenGetException_thenNoStackTrace() {
+        final String message = "Failure message.";
+        final ExceptionalFailure failure = ExceptionalFailure.stackless(IllegalStateException.class, message);
+        assertThat(failure.message())
+                .isEqualTo(message);
+        assertThat(failure.exceptionType())
+                .isEqualTo(IllegalStateException.class);
+        assertThat(failure.exception())
+                .isExactlyInstanceOf(RecordedException.class)
+                .hasMessage(message)
+                .hasToString(IllegalStateException.class.getName() + ": " + message)
+                .isSameAs(failure.exception());
+        assertThat(failure.exception().getStackTrace())
+                .isEmpty();
+    }
+
+    @Test
+    void givenStacklessExceptionalFailure_whenCreatedWithNullType_thenInvalid() {
+        assertThatThrownBy(() -> ExceptionalFailure.stackless(null, "Failure message."))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenExceptionalFailureSubclass_whenCreatedWithTypeAndMessage_thenValid() {
+        final ExceptionalFailure failure = new ExceptionalFailure(IllegalStateException.class, "Failure message.") {
+        };
+        assertThat(failure.message())
+                .isEqualTo("Failure message.");
+        assertThat(failure.exceptionType())
+                .isEqualTo(IllegalStateException.class);
+        assertThat(failure.exception())
+                .isExactlyInstanceOf(RecordedException.class)
+                .hasMessage("Failure message.");
+    }
+
+    @Test
+    void givenCaptureStackTracesEnabled_whenCreateExceptionalFailure_thenStackTraceCaptured() {
+        ExceptionalFailure.setCaptureStackTraces(true);
+        try {
+            final ExceptionalFailure failure = ExceptionalFailure.of(IllegalStateException.class, "Failure message.");
+            assertThat(failure.exceptionType())
+                    .isEqualTo(IllegalStateException.class);
+            assertThat(failure.exception().getStackTrace())
+                    .isNotEmpty();
+        } finally {
+            ExceptionalFailure.setCaptureStackTraces(false);
+        }
+    }
+
+    @Test
+    void givenExceptionalFailure_whenGetExceptionType_thenValid() {
+        final ExceptionalFailure failure = new ExceptionalFailure(new IllegalArgumentException());
+        assertThat(failure.exceptionType())
+                .isEqualTo(IllegalArgumentException.class);
+        assertThat(failure.message())
+                .isNull();
+    }
+
+    @Test
+    void givenLazyFailure_whenGetMessage_thenFormattedOnceAndTrimmed() {
+        final AtomicInteger renders = new AtomicInteger();
+        final LazyFailure supplied = new LazyFailure(() -> {
+            renders.incrementAndGet();
+            return " Failure message. ";
+        });
+        final LazyFailure formatted = new LazyFailure("Failure %d of %s. ", 1, "two");
+        assertThat(renders)
+                .hasValue(0);
+        assertThat(supplied.message())
+                .isEqualTo("Failure message.");
+        assertThat(supplied.message())
+                .isEqualTo("Failure message.");
+        assertThat(renders)
+                .hasValue(1);
+        assertThat(formatted.message())
+                .isEqualTo("Failure 1 of two.");
+        assertThat(formatted.message())
+                .isSameAs(formatted.message());
+    }
+
+    @Test
+    void givenLazyFailure_whenCreatedWithNullMessage_thenInvalid() {
+        assertThatThrownBy(() -> new LazyFailure((String) null))
+                .isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new LazyFailure((Supplier<String>) null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void givenFailureCode_whenRegister_thenSharedFailure() {
+        final FailureCode code = FailureCode.register(1001, "Item out of stock. ");
+        assertThat(FailureCode.register(1001, "Item out of stock."))
+                .isSameAs(code);
+        assertThat(FailureCode.lookup(1001))
+                .containsSame(code);
+        assertThat(FailureCode.lookup(1002))
+                .isEmpty();
+        assertThat(FailureCode.registered())
+                .contains(code);
+        assertThat(code.failure())
+                .isSameAs(code.failure());
+        assertThat(code.failure().code())
+                .isSameAs(code);
+        assertThat(code.failure().message())
+                .isEqualTo("Item out of stock.");
+        assertThat(code.failure().reasons())
+                .isEmpty();
+        assertThatThrownBy(() -> FailureCode.register(1001, "Other message."))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenCodedFailure_whenAddCausedBy_thenUnsupported() {
+        final CodedFailure failure = FailureCode.register(1003, "Item discontinued.").failure();
+        assertThatThrownBy(() -> failure.causedBy(new DefaultFailure("Failure message.")))
+                .isExactlyInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> failure.causedBy(new LinkedList<>()))
+                .isExactlyInstanceOf(UnsupportedOperationException.class);
+        assertThat(failure.reasons())
+                .isEmpty();
+    }
+
+    @Test
+    void givenBoundedCauseCapacity_whenAddCausedBy_thenOverflowCounted() {
+        final DefaultFailure failure = new DefaultFailure("Failure message.", ReasonCapacity.keepLast(2));
+        for (int i = 0; i < 4; i++) {
+            failure.causedBy(new DefaultFailure("Cause " + i + "."));
+        }
+        assertThat(failure.reasons())
+                .extracting(Failure::message)
+                .containsExactly("Cause 2.", "Cause 3.");
+        assertThat(failure.droppedCauseCount())
+                .isEqualTo(2);
+        assertThat(new DefaultFailure("Failure message.").droppedCauseCount())
+                .isZero();
+    }
+
+    @Test
+    void givenBoundedCausesWrapped_whenRemoveIf_thenRemovedInOrder() {
+        final DefaultFailure failure = new DefaultFailure("Failure message.", ReasonCapacity.keepLast(3));
+        for (int i = 0; i < 5; i++) {
+            failure.causedBy(new DefaultFailure("Cause " + i + "."));
+        }
+        assertThat(failure.reasons().removeIf(cause -> cause.message().equals("Cause 3.")))
+                .isTrue();
+        assertThat(failure.reasons())
+                .extracting(Failure::message)
+                .containsExactly("Cause 2.", "Cause 4.");
+        failure.causedBy(new DefaultFailure("Cause 5."));
+        assertThat(failure.reasons())
+                .extracting(Failure::message)
+                .containsExactly("Cause 2.", "Cause 4.", "Cause 5.");
+        failure.reasons().clear();
+        assertThat(failure.reasons())
+                .isEmpty();
+    }
 }
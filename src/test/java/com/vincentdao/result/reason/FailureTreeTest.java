@@ -0,0 +1,123 @@
+package com.vincentdao.result.reason;
+
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureTree;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class FailureTreeTest {
+
+    /**
+     * Builds {@code a -> (b -> (d, e), c -> f)}.
+     */
+    private static Failure createTree() {
+        final Failure a = new DefaultFailure("a");
+        final Failure b = new DefaultFailure("b");
+        final Failure c = new DefaultFailure("c");
+        b.causedBy(new DefaultFailure("d"));
+        b.causedBy(new DefaultFailure("e"));
+        c.causedBy(new DefaultFailure("f"));
+        a.causedBy(b);
+        a.causedBy(c);
+        return a;
+    }
+
+    private static String messages(Stream<Failure> failures) {
+        return failures.map(Failure::message)
+                .collect(Collectors.joining());
+    }
+
+    @Test
+    void givenFailureTree_whenTraverse_thenOrdered() {
+        final Failure root = createTree();
+        assertThat(messages(FailureTree.depthFirst(root)))
+                .isEqualTo("abdecf");
+        assertThat(messages(FailureTree.breadthFirst(root)))
+                .isEqualTo("abcdef");
+    }
+
+    @Test
+    void givenFailureTree_whenTraverseWithMaxDepth_thenLimited() {
+        final Failure root = createTree();
+        assertThat(messages(FailureTree.depthFirst(root, 1)))
+                .isEqualTo("abc");
+        assertThat(messages(FailureTree.breadthFirst(root, 0)))
+                .isEqualTo("a");
+        assertThatThrownBy(() -> FailureTree.depthFirst(root, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenSharedCauseFirstReachedAtMaxDepth_whenTraverse_thenCausesWithinMaxDepthVisited() {
+        final Failure a = new DefaultFailure("a");
+        final Failure b = new DefaultFailure("b");
+        final Failure shared = new DefaultFailure("x");
+        shared.causedBy(new DefaultFailure("d"));
+        b.causedBy(shared);
+        a.causedBy(b);
+        a.causedBy(shared);
+        assertThat(messages(FailureTree.depthFirst(a, 2)))
+                .isEqualTo("abxd");
+        assertThat(messages(FailureTree.breadthFirst(a, 2)))
+                .isEqualTo("abxd");
+        assertThat(messages(FailureTree.depthFirst(a, 1)))
+                .isEqualTo("abx");
+    }
+
+    @Test
+    void givenFailureCycle_whenTraverse_thenEachVisitedOnce() {
+        final Failure first = new DefaultFailure("a");
+        final Failure second = new DefaultFailure("b");
+        first.causedBy(second);
+        second.causedBy(first);
+        first.causedBy(first);
+        assertThat(messages(FailureTree.depthFirst(first)))
+                .isEqualTo("ab");
+        assertThat(messages(FailureTree.breadthFirst(first)))
+                .isEqualTo("ab");
+        assertThat(FailureTree.rootCause(first))
+                .isSameAs(second);
+    }
+
+    @Test
+    void givenDeepFailureChain_whenTraverse_thenNoStackOverflow() {
+        final int depth = 100_000;
+        final Failure root = new DefaultFailure("Failure message.");
+        Failure current = root;
+        for (int i = 0; i < depth; i++) {
+            final Failure cause = new DefaultFailure("Failure message.");
+            current.causedBy(cause);
+            current = cause;
+        }
+        assertThat(FailureTree.depthFirst(root).count())
+                .isEqualTo(depth + 1);
+        assertThat(FailureTree.rootCause(root))
+                .isSameAs(current);
+    }
+
+    @Test
+    void givenFailureTree_whenTraverseLazily_thenOnlyConsumedVisited() {
+        final Failure root = createTree();
+        assertThat(FailureTree.depthFirst(root).skip(1).findFirst())
+                .hasValueSatisfying(failure -> assertThat(failure.message()).isEqualTo("b"));
+    }
+
+    @Test
+    void givenFailureTree_whenLeafCauses_thenLeaves() {
+        final Failure root = createTree();
+        assertThat(messages(FailureTree.leafCauses(root)))
+                .isEqualTo("def");
+        assertThat(FailureTree.rootCause(root).message())
+                .isEqualTo("d");
+        final Failure leaf = new DefaultFailure("Failure message.");
+        assertThat(FailureTree.rootCause(leaf))
+                .isSameAs(leaf);
+        assertThatThrownBy(() -> FailureTree.rootCause(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -1,6 +1,9 @@
 package com.vincentdao.result.reason;
 
 import com.vincentdao.result.trace.DefaultSuccess;
+import com.vincentdao.result.trace.LazySuccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,4 +24,33 @@ final class SuccessTest {
         assertThat(defaultSuccess.message())
                 .isEqualTo(message);
     }
+
+    @Test
+    void givenLazySuccess_whenGetMessage_thenFormattedOnceAndTrimmed() {
+        final AtomicInteger renders = new AtomicInteger();
+        final LazySuccess supplied = new LazySuccess(() -> {
+            renders.incrementAndGet();
+            return " Success message. ";
+        });
+        assertThat(renders)
+                .hasValue(0);
+        assertThat(supplied.message())
+                .isEqualTo("Success message.");
+        assertThat(supplied.message())
+                .isEqualTo("Success message.");
+        assertThat(renders)
+                .hasValue(1);
+        assertThat(new LazySuccess("Success %d of %s. ", 1, "two").message())
+                .isEqualTo("Success 1 of two.");
+    }
+
+    @Test
+    void givenLazySuccess_whenCreatedWithNullMessage_thenInvalid() {
+        assertThatThrownBy(() -> new LazySuccess((String) null))
+                .isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new LazySuccess((Supplier<String>) null))
+                .isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new LazySuccess(() -> null).message())
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
 }
@@ -0,0 +1,150 @@
+package com.vincentdao.result.retry;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.ExceptionalFailure;
+import com.vincentdao.result.trace.Failure;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class RetryTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final Retry retry = Retry.create()
+            .withBackoff(Duration.ofMillis(1), 2.0, Duration.ofMillis(5))
+            .withJitter(0.0);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void givenFlakyOperation_whenRun_thenSucceedsOnRetry() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Result<Integer> result = retry.<Integer>run(() -> attempts.incrementAndGet() < 3
+                        ? Result.<Integer>failed().withFailureMessage("Failure message.")
+                        : Result.<Integer>successful().withValue(attempts.get()), scheduler)
+                .join();
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.value())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void givenFailingOperation_whenAttemptsExhausted_thenAttemptFailuresAsCauses() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Result<Integer> result = retry.withMaxAttempts(4).<Integer>run(() -> {
+            if (attempts.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException("Attempt " + attempts.get() + ".");
+            }
+            return Result.<Integer>failed().withFailureMessage("Attempt " + attempts.get() + ".");
+        }, scheduler).join();
+        assertThat(attempts)
+                .hasValue(4);
+        assertThat(result.failures())
+                .singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.message())
+                            .isEqualTo("Failed after 4 attempts.");
+                    assertThat(failure.reasons())
+                            .extracting(Failure::message)
+                            .containsExactly("Attempt 1.", "Attempt 2.", "Attempt 3.", "Attempt 4.");
+                    assertThat(failure.reasons())
+                            .filteredOn(ExceptionalFailure.class::isInstance)
+                            .hasSize(2);
+                });
+    }
+
+    @Test
+    void givenFailedAttemptsWithoutFailure_whenRun_thenRetriedWithPlaceholderCauses() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Result<Integer> result = retry.<Integer>run(() -> {
+            attempts.incrementAndGet();
+            return Result.failed();
+        }, scheduler).join();
+        assertThat(attempts)
+                .hasValue(Retry.DEFAULT_MAX_ATTEMPTS);
+        assertThat(result.failures().iterator().next().reasons())
+                .extracting(Failure::message)
+                .containsExactly("Attempt 1 failed without failure.", "Attempt 2 failed without failure.",
+                        "Attempt 3 failed without failure.");
+    }
+
+    @Test
+    void givenNonRetryableFailure_whenRun_thenStopsImmediately() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Retry timeoutsOnly = retry.withRetryOnException(TimeoutException.class);
+        final Result<Integer> result = timeoutsOnly.<Integer>run(() -> {
+            attempts.incrementAndGet();
+            return Result.<Integer>failed().withExceptionalFailure(new IOException("I/O."));
+        }, scheduler).join();
+        assertThat(attempts)
+                .hasValue(1);
+        assertThat(result.failures())
+                .singleElement()
+                .extracting(Failure::message)
+                .isEqualTo("Failed after 1 attempt.");
+
+        attempts.set(0);
+        timeoutsOnly.<Integer>run(() -> {
+            attempts.incrementAndGet();
+            return Result.<Integer>failed().withExceptionalFailure(TimeoutException.class, "Timed out.");
+        }, scheduler).join();
+        assertThat(attempts)
+                .hasValue(Retry.DEFAULT_MAX_ATTEMPTS);
+
+        attempts.set(0);
+        retry.withRetryOnFailure(ExceptionalFailure.class).<Integer>run(() -> {
+            attempts.incrementAndGet();
+            return Result.<Integer>failed().withFailure(new DefaultFailure("Failure message."));
+        }, scheduler).join();
+        assertThat(attempts)
+                .hasValue(1);
+    }
+
+    @Test
+    void givenShutDownScheduler_whenRun_thenFailedWithRejection() {
+        scheduler.shutdown();
+        final Result<Integer> result = retry.<Integer>run(() -> Result.<Integer>successful().withValue(1), scheduler)
+                .join();
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures().iterator().next().reasons())
+                .singleElement()
+                .isInstanceOf(ExceptionalFailure.class);
+    }
+
+    @Test
+    void givenBackoff_whenComputeDelay_thenExponentialAndCapped() {
+        final Retry backoff = Retry.create()
+                .withBackoff(Duration.ofMillis(100), 2.0, Duration.ofMillis(350))
+                .withJitter(0.0);
+        assertThat(backoff.delayNanos(1))
+                .isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(backoff.delayNanos(2))
+                .isEqualTo(Duration.ofMillis(200).toNanos());
+        assertThat(backoff.delayNanos(3))
+                .isEqualTo(Duration.ofMillis(350).toNanos());
+        final Retry jittered = backoff.withJitter(0.5);
+        for (int i = 0; i < 100; i++) {
+            assertThat(jittered.delayNanos(2))
+                    .isBetween(Duration.ofMillis(100).toNanos(), Duration.ofMillis(200).toNanos());
+        }
+        assertThatThrownBy(() -> backoff.withJitter(1.5))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backoff.withMaxAttempts(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.vincentdao.result.validation;
+
+import com.vincentdao.result.Result;
+import com.vincentdao.result.trace.DefaultFailure;
+import com.vincentdao.result.trace.Failure;
+import com.vincentdao.result.trace.FailureCode;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ValidatorTest {
+
+    private static final class Order {
+
+        private final String id;
+        private final int quantity;
+        private final Customer customer;
+
+        private Order(String id, int quantity, Customer customer) {
+            this.id = id;
+            this.quantity = quantity;
+            this.customer = customer;
+        }
+    }
+
+    private static final class Customer {
+
+        private final String name;
+
+        private Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final Validator<Customer> CUSTOMER = Validator.<Customer>create()
+            .withRule(customer -> customer != null, "Customer must be defined.")
+            .withRule(customer -> customer == null || !customer.name.isEmpty(), "Name must not be empty.");
+
+    private static Validator<Order> createValidator() {
+        return Validator.<Order>create()
+                .withRule(order -> !order.id.isEmpty(), "Id must not be empty.")
+                .withRule(order -> order.quantity > 0, FailureCode.register(6001, "Quantity must be positive."))
+                .withField(order -> order.customer, CUSTOMER);
+    }
+
+    @Test
+    void givenValidValue_whenValidate_thenSuccessfulWithValue() {
+        final Order order = new Order("1", 1, new Customer("Name"));
+        final Result<Order> result = createValidator().validate(order);
+        assertThat(result.isSuccessful())
+                .isTrue();
+        assertThat(result.value())
+                .isSameAs(order);
+        assertThat(result.reasons())
+                .isEmpty();
+        assertThat(Validator.<Order>create().validate(order).isSuccessful())
+                .isTrue();
+    }
+
+    @Test
+    void givenInvalidValue_whenValidate_thenAllFailuresInOrder() {
+        final Order order = new Order("", 0, new Customer(""));
+        final Result<Order> result = createValidator().validate(order);
+        assertThat(result.isFailed())
+                .isTrue();
+        assertThat(result.failures())
+                .extracting(Failure::message)
+                .containsExactly("Id must not be empty.", "Quantity must be positive.", "Name must not be empty.");
+        assertThat(createValidator().validate(new Order("1", 1, null)).failures())
+                .extracting(Failure::message)
+                .containsExactly("Customer must be defined.");
+    }
+
+    @Test
+    void givenFailFast_whenValidate_thenStopsAtFirstFailure() {
+        final AtomicInteger checked = new AtomicInteger();
+        final Validator<Order> validator = createValidator()
+                .withRule(order -> {
+                    checked.incrementAndGet();
+                    return null;
+                })
+                .failFast();
+        assertThat(validator.validate(new Order("", 0, new Customer(""))).failures())
+                .extracting(Failure::message)
+                .containsExactly("Id must not be empty.");
+        assertThat(checked)
+                .hasValue(0);
+        assertThat(validator.withMode(Validator.Mode.ACCUMULATE).validate(new Order("", 0, null)).failures())
+                .hasSize(3);
+    }
+
+    @Test
+    void givenGroups_whenValidateConcurrently_thenFailuresInGroupOrder() {
+        final Validator<Order> validator = Validator.<Order>create()
+                .withRule(order -> order.quantity > 0, "Quantity must be positive.")
+                .withGroup(Validator.<Order>create()
+                        .withRule(order -> !order.id.isEmpty(), "Id must not be empty."))
+                .withGroup(Validator.<Order>create()
+                        .withField(order -> order.customer, CUSTOMER));
+        final Order order = new Order("", 0, new Customer(""));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 100; i++) {
+                assertThat(validator.validate(order, executor).failures())
+                        .extracting(Failure::message)
+                        .containsExactly("Quantity must be positive.", "Id must not be empty.",
+                                "Name must not be empty.");
+            }
+            assertThat(validator.failFast().validate(order, executor).failures())
+                    .hasSize(1);
+            assertThat(validator.validate(new Order("1", 1, new Customer("Name")), executor).isSuccessful())
+                    .isTrue();
+            assertThatThrownBy(() -> Validator.<Order>create()
+                    .withGroup(Validator.<Order>create().withRule(value -> {
+                        throw new IllegalStateException("Illegal state.");
+                    }))
+                    .validate(order, executor))
+                    .isExactlyInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void givenCustomRule_whenValidate_thenFailureReported() {
+        final Failure failure = new DefaultFailure("Failure message.");
+        final Validator<String> validator = Validator.<String>create()
+                .withRule(value -> value.isEmpty() ? failure : null);
+        assertThat(validator.validate("").failures())
+                .containsExactly(failure);
+        assertThatThrownBy(() -> validator.validate(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> validator.withRule(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+}